@@ -0,0 +1,4 @@
+#!/bin/bash
+# Lets the replica stream the WAL of the primary, run once when the primary database is initialized
+set -e
+echo "host replication ${POSTGRES_USER} all scram-sha-256" >> "${PGDATA}/pg_hba.conf"
@@ -0,0 +1,69 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.service.CategoryService;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+
+/**
+ * JMH benchmark of CategoryService over CategoryAdapterMemory, the in-memory CategoryPort of the memory profile.
+ * Measures the cost of the domain layer alone, without any persistence I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CategoryServiceBenchmark {
+
+    private static final int CATEGORIES = 1_000;
+
+    private final PageRequest pageRequest = PageRequest.of(10, 10);
+
+    private CategoryService categoryService;
+    private long created;
+
+    @Setup
+    public void setUp() {
+        categoryService = new CategoryService(new CategoryAdapterMemory());
+        for (int i = 1; i <= CATEGORIES; i++) {
+            categoryService.create(Category.builder().name("Category " + i).build());
+        }
+    }
+
+    @Benchmark
+    public Category getById() {
+        return categoryService.getById(CATEGORIES / 2);
+    }
+
+    @Benchmark
+    public Slice<Category> getSlice() {
+        return categoryService.getSlice(pageRequest);
+    }
+
+    @Benchmark
+    public Category create() {
+        return categoryService.create(Category.builder().name("Created " + created++).build());
+    }
+
+    @Benchmark
+    public Category update() {
+        return categoryService.update(1, Category.builder().name("Updated " + created++).build());
+    }
+
+}
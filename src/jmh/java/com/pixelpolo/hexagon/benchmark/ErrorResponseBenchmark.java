@@ -0,0 +1,115 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.pixelpolo.hexagon.application.dto.CategoryRequest;
+import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.application.exception.GlobalExceptionHandler;
+import com.pixelpolo.hexagon.common.exception.ExistException;
+import com.pixelpolo.hexagon.common.exception.NotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+
+import jakarta.validation.Valid;
+
+/**
+ * JMH benchmark of the error paths through Spring MVC (MockMvc, no network):
+ * exception resolution, error body and JSON serialization.
+ * "legacy" is the handler with raw String bodies as it was, "problem" the current GlobalExceptionHandler
+ * with ProblemDetail bodies. Validation errors were left to Spring MVC by the legacy handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ErrorResponseBenchmark {
+
+    @Param({"legacy", "problem"})
+    private String handler;
+
+    @Param({"notFound", "conflict", "validation"})
+    private String error;
+
+    private MockMvc mockMvc;
+    private RequestBuilder request;
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/categories/{id}")
+        CategoryResponse notFound(@PathVariable long id) {
+            throw new CategoryNotFoundException(id);
+        }
+
+        @PostMapping("/categories")
+        CategoryResponse conflict(@Valid @RequestBody CategoryRequest request) {
+            throw new CategoryExistException(request.getName());
+        }
+
+    }
+
+    /**
+     * The handler before ProblemDetail, with raw String bodies.
+     */
+    @ControllerAdvice
+    static class LegacyExceptionHandler {
+
+        @ExceptionHandler(NotFoundException.class)
+        ResponseEntity<String> handleNotFound(NotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        }
+
+        @ExceptionHandler(ExistException.class)
+        ResponseEntity<String> handleExist(ExistException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+        Object advice = handler.equals("legacy") ? new LegacyExceptionHandler() : new GlobalExceptionHandler();
+        mockMvc = MockMvcBuilders.standaloneSetup(new FailingController()).setControllerAdvice(advice).build();
+        request = switch (error) {
+            case "notFound" -> MockMvcRequestBuilders.get("/categories/42");
+            case "conflict" -> MockMvcRequestBuilders.post("/categories")
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Category\"}");
+            default -> MockMvcRequestBuilders.post("/categories")
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\" \"}");
+        };
+    }
+
+    @Benchmark
+    public int errorResponse() throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+}
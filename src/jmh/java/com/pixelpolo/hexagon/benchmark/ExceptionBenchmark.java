@@ -0,0 +1,102 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pixelpolo.hexagon.common.exception.NotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+
+/**
+ * JMH benchmark of the not-found paths, before and after the stackless domain exceptions.
+ * The miss is raised below a number of frames, as it would be under Spring and Hibernate proxies,
+ * since filling the stack trace costs in proportion to the stack depth.
+ * "withStackTrace" is the exception as it was, "stackless" the current CategoryNotFoundException
+ * and "optional" the Optional-returning finder that does not throw at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExceptionBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    private long id = 42;
+    private CategoryAdapterMemory categoryPort;
+
+    /**
+     * The exception before this change, with a writable stack trace.
+     */
+    private static class StackTraceNotFoundException extends RuntimeException {
+
+        StackTraceNotFoundException(long id) {
+            super("Category with ID " + id + " not found.");
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+        categoryPort = new CategoryAdapterMemory();
+    }
+
+    @Benchmark
+    public NotFoundException createStackless() {
+        return new CategoryNotFoundException(id);
+    }
+
+    @Benchmark
+    public String withStackTrace() {
+        try {
+            return throwAt(depth, true).getName();
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stackless() {
+        try {
+            return throwAt(depth, false).getName();
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Optional<Category> optional() {
+        return findAt(depth);
+    }
+
+    private Category throwAt(int frames, boolean stackTrace) {
+        if (frames > 0) {
+            return throwAt(frames - 1, stackTrace);
+        }
+        throw stackTrace ? new StackTraceNotFoundException(id) : new CategoryNotFoundException(id);
+    }
+
+    private Optional<Category> findAt(int frames) {
+        if (frames > 0) {
+            return findAt(frames - 1);
+        }
+        return categoryPort.findById(id);
+    }
+
+}
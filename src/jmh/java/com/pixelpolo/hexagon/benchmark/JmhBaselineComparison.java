@@ -0,0 +1,94 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares a JMH run (-rf json) with the committed baseline, benchmark by benchmark and for each parameter set.
+ * A score worse than the baseline by more than the threshold (e.g. 0.10 for 10%) is a regression,
+ * so is an allocation per operation (gc.alloc.rate.norm, from -prof gc) grown by more than the threshold.
+ * Exits with 1 on any regression or when there is no baseline yet, so that the build fails.
+ * Run with: ./mvnw test-compile exec:exec exec:exec@jmh-compare -Pjmh
+ */
+public final class JmhBaselineComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    // Below this many bytes per operation, an allocation change is noise (e.g. an escaped iterator)
+    private static final double ALLOCATION_FLOOR = 16;
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Result(String benchmark, String mode, Map<String, String> params, Metric primaryMetric,
+                  Map<String, Metric> secondaryMetrics) {
+
+        String key() {
+            return params == null || params.isEmpty() ? benchmark : benchmark + " " + params;
+        }
+
+        double allocation() {
+            Metric metric = secondaryMetrics == null ? null : secondaryMetrics.get(ALLOCATION);
+            return metric == null ? Double.NaN : metric.score();
+        }
+
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Metric(double score, String scoreUnit) {
+    }
+
+    private JmhBaselineComparison() {
+    }
+
+    public static void main(String[] args) {
+        File baselineFile = new File(args[0]);
+        File currentFile = new File(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+        if (!baselineFile.isFile()) {
+            System.out.printf("[jmh] No baseline at %s, record one on the reference machine and commit it%n", baselineFile);
+            System.exit(1);
+        }
+        JsonMapper mapper = JsonMapper.builder().build();
+        Map<String, Result> baseline = Arrays.stream(mapper.readValue(baselineFile, Result[].class))
+                .collect(Collectors.toMap(Result::key, Function.identity()));
+
+        int regressions = 0;
+        for (Result current : mapper.readValue(currentFile, Result[].class)) {
+            Result reference = baseline.get(current.key());
+            if (reference == null) {
+                System.out.printf("[jmh] NEW        %s%n", current.key());
+                continue;
+            }
+            // Throughput is better higher, the other modes (average, sample, single shot times) lower
+            double scoreChange = change(reference.primaryMetric().score(), current.primaryMetric().score());
+            if ("thrpt".equals(current.mode())) {
+                scoreChange = -scoreChange;
+            }
+            double allocationChange = Math.max(current.allocation(), reference.allocation()) < ALLOCATION_FLOOR
+                    ? 0 : change(reference.allocation(), current.allocation());
+            boolean regressed = scoreChange > threshold || allocationChange > threshold;
+            regressions += regressed ? 1 : 0;
+            System.out.printf("[jmh] %-10s %s: score %+.1f%% (%.3f -> %.3f %s), allocation %+.1f%% (%.0f -> %.0f B/op)%n",
+                              regressed ? "REGRESSION" : "OK", current.key(), scoreChange * 100,
+                              reference.primaryMetric().score(), current.primaryMetric().score(),
+                              current.primaryMetric().scoreUnit(), allocationChange * 100,
+                              reference.allocation(), current.allocation());
+        }
+        System.out.printf("[jmh] %d regression(s) beyond %.0f%%%n", regressions, threshold * 100);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    // Relative change, 0 when a side is missing (e.g. a run without -prof gc)
+    private static double change(double reference, double current) {
+        if (Double.isNaN(reference) || Double.isNaN(current) || reference == 0) {
+            return 0;
+        }
+        return (current - reference) / reference;
+    }
+
+}
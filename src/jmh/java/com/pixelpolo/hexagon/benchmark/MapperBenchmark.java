@@ -0,0 +1,101 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pixelpolo.hexagon.application.dto.CategoryRequest;
+import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.application.mapper.CategoryMapper;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
+import com.pixelpolo.hexagon.infrastructure.postgres.entity.CategoryEntityJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.mapper.CategoryMapperJpa;
+
+/**
+ * JMH benchmark of the MapStruct conversions on the Category request path:
+ * DTO <-> domain (CategoryMapper) and domain <-> entity (CategoryMapperJpa, CategoryMapperMongo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int listSize;
+
+    private final CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+    private final CategoryMapperJpa categoryMapperJpa = Mappers.getMapper(CategoryMapperJpa.class);
+    private final CategoryMapperMongo categoryMapperMongo = Mappers.getMapper(CategoryMapperMongo.class);
+
+    private CategoryRequest request;
+    private Category category;
+    private CategoryEntityJpa entityJpa;
+    private CategoryEntityMongo entityMongo;
+    private List<Category> categories;
+
+    @Setup
+    public void setUp() {
+        request = CategoryRequest.builder().name("Category").build();
+        category = Category.builder().categoryId(1L).name("Category").deletionDate(LocalDateTime.now()).build();
+        entityJpa = categoryMapperJpa.toEntity(category);
+        entityMongo = categoryMapperMongo.toEntity(category);
+        categories = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> Category.builder().categoryId(id).name("Category " + id).build())
+                .toList();
+    }
+
+    @Benchmark
+    public Category requestToDomain() {
+        return categoryMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public CategoryResponse domainToResponse() {
+        return categoryMapper.toResponse(category);
+    }
+
+    @Benchmark
+    public List<CategoryResponse> domainListToResponseList() {
+        return categoryMapper.toResponseList(categories);
+    }
+
+    @Benchmark
+    public CategoryEntityJpa domainToEntityJpa() {
+        return categoryMapperJpa.toEntity(category);
+    }
+
+    @Benchmark
+    public Category entityJpaToDomain() {
+        return categoryMapperJpa.toDomain(entityJpa);
+    }
+
+    @Benchmark
+    public CategoryEntityMongo domainToEntityMongo() {
+        return categoryMapperMongo.toEntity(category);
+    }
+
+    @Benchmark
+    public Category entityMongoToDomain() {
+        return categoryMapperMongo.toDomain(entityMongo);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.mongo.codec.CategoryCodecMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
+
+/**
+ * JMH benchmark of the MongoDB category reads, from the BSON bytes of a page to Category:
+ * Document, MappingMongoConverter and CategoryMapperMongo (repository reads) against CategoryCodecMongo (lean reads).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MongoReadBenchmark {
+
+    @Param({"10", "1000"})
+    private int pageSize;
+
+    private final CategoryMapperMongo categoryMapperMongo = Mappers.getMapper(CategoryMapperMongo.class);
+    private final CategoryCodecMongo categoryCodecMongo = new CategoryCodecMongo();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private List<RawBsonDocument> page;
+
+    // Documents as CategoryEntityMongo is stored, _class included
+    @Setup
+    public void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Document document = new Document();
+            converter.write(CategoryEntityMongo.builder()
+                                    .categoryId(id).name("Category " + id).version(id)
+                                    .updatedAt(LocalDateTime.now()).build(), document);
+            page.add(new RawBsonDocument(document, documentCodec));
+        }
+    }
+
+    @Benchmark
+    public List<Category> readThroughEntity() {
+        List<Category> categories = new ArrayList<>(page.size());
+        for (RawBsonDocument raw : page) {
+            CategoryEntityMongo entity = converter.read(CategoryEntityMongo.class, raw.decode(documentCodec));
+            categories.add(categoryMapperMongo.toDomain(entity));
+        }
+        return categories;
+    }
+
+    @Benchmark
+    public List<Category> readThroughCodec() {
+        List<Category> categories = new ArrayList<>(page.size());
+        for (RawBsonDocument raw : page) {
+            categories.add(raw.decode(categoryCodecMongo));
+        }
+        return categories;
+    }
+
+}
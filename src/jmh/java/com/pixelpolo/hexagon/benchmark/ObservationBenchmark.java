@@ -0,0 +1,94 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.pixelpolo.hexagon.common.metrics.CategoryObservationAspect;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.in.CategoryUseCase;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+import com.pixelpolo.hexagon.domain.service.CategoryService;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * JMH benchmark of the CategoryObservationAspect overhead.
+ * Compares a plain CategoryService call with the same call observed at the use case and port levels,
+ * with the p50/p99 and histogram configuration of application.properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ObservationBenchmark {
+
+    private static final int CATEGORIES = 1_000;
+
+    private CategoryUseCase plain;
+    private CategoryUseCase observed;
+
+    @Setup
+    public void setUp() {
+        CategoryAdapterMemory port = new CategoryAdapterMemory();
+        for (int i = 1; i <= CATEGORIES; i++) {
+            port.insert(Category.builder().name("Category " + i).build());
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        });
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        CategoryObservationAspect aspect =
+                new CategoryObservationAspect(observationRegistry, meterRegistry, new StandardEnvironment());
+
+        plain = new CategoryService(port);
+        observed = proxy(new CategoryService(proxy(port, CategoryPort.class, aspect)), CategoryUseCase.class, aspect);
+    }
+
+    @Benchmark
+    public Category getByIdPlain() {
+        return plain.getById(CATEGORIES / 2);
+    }
+
+    @Benchmark
+    public Category getByIdObserved() {
+        return observed.getById(CATEGORIES / 2);
+    }
+
+    private static <T> T proxy(T target, Class<T> type, CategoryObservationAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(type);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.common.utils.PaginationUtils;
+
+/**
+ * JMH benchmark of PaginationUtils: offset page requests and keyset cursor encoding/decoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PaginationBenchmark {
+
+    private final PaginationUtils paginationUtils = new PaginationUtils();
+
+    private Window<String> window;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        window = Window.from(List.of("Category"),
+                             index -> ScrollPosition.forward(Map.of("name", "Category", "categoryId", 1L)), true);
+        cursor = paginationUtils.buildNextCursor(window);
+    }
+
+    @Benchmark
+    public PageRequest buildPageRequest() {
+        return paginationUtils.buildPageRequest(3, 10, "categoryId", "desc");
+    }
+
+    @Benchmark
+    public String encodeCursor() {
+        return paginationUtils.buildNextCursor(window);
+    }
+
+    @Benchmark
+    public KeysetScrollPosition decodeCursor() {
+        return paginationUtils.buildScrollPosition(cursor, 10);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JMH benchmark of the JSON serialization of CategoryResponse lists, as written by the list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int listSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<CategoryResponse> responses;
+
+    @Setup
+    public void setUp() {
+        responses = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> CategoryResponse.builder().categoryId(id).name("Category " + id).build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponseList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+}
@@ -4,11 +4,15 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import com.pixelpolo.hexagon.common.utils.MemorySeedingUtils;
 import com.pixelpolo.hexagon.common.utils.MongoSeedingUtils;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.ProductAdapterMemory;
 
 @SpringBootApplication
 @EnableMongoRepositories(basePackages = "com.pixelpolo.hexagon.infrastructure.mongo")
@@ -20,8 +24,19 @@ public class HexagonApplication {
     }
 
     @Bean
+    @Profile("!memory")
     CommandLineRunner runner(MongoTemplate mongoTemplate) {
-        return args -> MongoSeedingUtils.seedCategories(mongoTemplate);
+        return args -> {
+            MongoSeedingUtils.seedCategories(mongoTemplate);
+            MongoSeedingUtils.seedProducts(mongoTemplate);
+        };
+    }
+
+    // The memory profile starts without any database
+    @Bean
+    @Profile("memory")
+    CommandLineRunner memoryRunner(CategoryAdapterMemory categoryAdapterMemory, ProductAdapterMemory productAdapterMemory) {
+        return args -> MemorySeedingUtils.seed(categoryAdapterMemory, productAdapterMemory);
     }
 
 }
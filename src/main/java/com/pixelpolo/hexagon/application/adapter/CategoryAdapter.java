@@ -1,15 +1,40 @@
 package com.pixelpolo.hexagon.application.adapter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
 
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.CategoryBatchUpdateRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.application.dto.ImportResponse;
 import com.pixelpolo.hexagon.application.mapper.CategoryMapper;
+import com.pixelpolo.hexagon.application.validation.ValidationMessage;
+import com.pixelpolo.hexagon.common.exception.PreconditionFailedException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.common.utils.DataFormat;
+import com.pixelpolo.hexagon.common.utils.ETagUtils;
+import com.pixelpolo.hexagon.common.utils.ExportUtils;
+import com.pixelpolo.hexagon.common.utils.ImportUtils;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.domain.port.in.CategoryUseCase;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -17,32 +42,137 @@ import lombok.RequiredArgsConstructor;
  * Acts as a bridge between the application layer and the domain layer.
  * It uses the CategoryUseCase to perform operations and
  * the CategoryMapper to convert between domain models and DTOs.
+ * List operations use slices to avoid a count query, totals are served by the CategoryCountCache.
+ * Batch operations validate each item and report a result per item instead of failing the whole batch.
+ * Imports go through the same validation and batch creation, chunk by chunk, while the body is being read.
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CategoryAdapter {
 
+    public static final String IMPORT_COUNTER = "category.import.records";
+    private static final List<String> EXPORT_COLUMNS = List.of("categoryId", "name");
+
     private final CategoryUseCase categoryUseCase;
     private final CategoryMapper categoryMapper;
+    private final CategoryCountCache categoryCountCache;
+    private final CategoryBatch categoryBatch;
+    private final ExportUtils exportUtils;
+    private final ImportUtils importUtils;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${category.import.chunk-size}")
+    private int importChunkSize;
+
+    @Value("${category.import.max-in-flight}")
+    private int importMaxInFlight;
+
+    @Value("${category.import.max-errors}")
+    private int importMaxErrors;
 
     public CategoryResponse createCategory(CategoryRequest categoryRequest) {
         return categoryMapper.toResponse(categoryUseCase.create(categoryMapper.toDomain(categoryRequest)));
     }
 
-    public CategoryResponse updateCategory(Long id, CategoryRequest categoryRequest) {
-        return categoryMapper.toResponse(categoryUseCase.update(id, categoryMapper.toDomain(categoryRequest)));
+    // The If-Match version wins over the body version: a stale If-Match fails the precondition (412),
+    // a stale body version is a conflict (409). Without either, whatever the current version is updated.
+    public CategoryResponse updateCategory(Long id, Long expectedVersion, CategoryRequest categoryRequest) {
+        Category category = categoryMapper.toDomain(categoryRequest);
+        if (expectedVersion == null) {
+            return categoryMapper.toResponse(categoryUseCase.update(id, category));
+        }
+        category.setVersion(expectedVersion);
+        try {
+            return categoryMapper.toResponse(categoryUseCase.update(id, category));
+        } catch (CategoryVersionMismatchException e) {
+            throw new PreconditionFailedException(e.getMessage());
+        }
+    }
+
+    public List<BulkItemResponse> createCategories(List<CategoryRequest> categoryRequests) {
+        return categoryBatch.run(categoryRequests, categoryBatch::validate,
+                        valid -> categoryUseCase.createAll(valid.stream().map(categoryMapper::toDomain).toList()));
+    }
+
+    public List<BulkItemResponse> updateCategories(List<CategoryBatchUpdateRequest> categoryRequests) {
+        return categoryBatch.run(categoryRequests, categoryBatch::validate,
+                        valid -> categoryUseCase.updateAll(valid.stream().map(categoryMapper::toDomain).toList()));
+    }
+
+    public List<BulkItemResponse> deleteCategories(List<Long> ids, boolean hard) {
+        return categoryBatch.run(ids, id -> id == null ? ValidationMessage.NOT_NULL : null,
+                        valid -> hard ? categoryUseCase.hardDeleteAll(valid) : categoryUseCase.softDeleteAll(valid));
+    }
+
+    public void exportCategories(DataFormat format, OutputStream outputStream) throws IOException {
+        exportUtils.write(outputStream, format, EXPORT_COLUMNS,
+                          (CategoryResponse c) -> Arrays.asList(c.getCategoryId(), c.getName()),
+                          action -> categoryUseCase.exportAll(category -> action.accept(categoryMapper.toResponse(category))));
+    }
+
+    // The records counter gives the progress of the running imports
+    public ImportResponse importCategories(DataFormat format, InputStream inputStream) throws IOException {
+        ImportTally tally = new ImportTally(importMaxErrors);
+        importUtils.read(inputStream, format, CategoryRequest.class, importChunkSize, importMaxInFlight, chunk -> {
+            List<BulkItemResponse> responses = new ArrayList<>(chunk.size());
+            List<ImportUtils.Row<CategoryRequest>> valid = new ArrayList<>(chunk.size());
+            for (ImportUtils.Row<CategoryRequest> row : chunk) {
+                String error = row.error() != null ? row.error() : categoryBatch.validate(row.value());
+                if (error == null) {
+                    valid.add(row);
+                } else {
+                    responses.add(BulkItemResponse.builder()
+                                          .index(row.index()).status(HttpStatus.BAD_REQUEST.value()).error(error).build());
+                }
+            }
+            if (!valid.isEmpty()) {
+                List<BulkItemResult> results = categoryUseCase.createAll(
+                        valid.stream().map(row -> categoryMapper.toDomain(row.value())).toList());
+                for (int j = 0; j < results.size(); j++) {
+                    responses.add(categoryBatch.toBulkItemResponse(valid.get(j).index(), results.get(j)));
+                }
+            }
+            long created = tally.add(responses);
+            meterRegistry.counter(IMPORT_COUNTER, "status", "created").increment(created);
+            meterRegistry.counter(IMPORT_COUNTER, "status", "failed").increment(responses.size() - created);
+        });
+        return tally.toResponse();
     }
 
     public List<CategoryResponse> getAllCategories(Pageable pageable) {
-        return categoryMapper.toResponseList(categoryUseCase.getAll(pageable).getContent());
+        return categoryMapper.toResponseList(categoryUseCase.getSlice(pageable).getContent());
     }
 
     public List<CategoryResponse> getAllDeletedCategories(Pageable pageable) {
-        return categoryMapper.toResponseList(categoryUseCase.getAllDeleted(pageable).getContent());
+        return categoryMapper.toResponseList(categoryUseCase.getDeletedSlice(pageable).getContent());
+    }
+
+    public long countCategories() {
+        return categoryCountCache.getCount();
+    }
+
+    public long countDeletedCategories() {
+        return categoryCountCache.getDeletedCount();
+    }
+
+    public Window<CategoryResponse> getAllCategories(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryUseCase.getAll(position, sort, size).map(categoryMapper::toResponse);
+    }
+
+    public Window<CategoryResponse> getAllDeletedCategories(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryUseCase.getAllDeleted(position, sort, size).map(categoryMapper::toResponse);
     }
 
-    public CategoryResponse getCategoryById(long id) {
-        return categoryMapper.toResponse(categoryUseCase.getById(id));
+    // Null if the client copy is current: the request then holds the 304 and the mapper is skipped.
+    // The version is read from the store, not from the category cache which another instance may have made stale.
+    public CategoryResponse getCategoryById(long id, WebRequest request) {
+        Category category = categoryUseCase.getById(id);
+        if (request.checkNotModified(ETagUtils.of(id, category.getVersion()),
+                                     ETagUtils.lastModified(category.getUpdatedAt()))) {
+            return null;
+        }
+        return categoryMapper.toResponse(category);
     }
 
     public void softDeleteCategory(long id) {
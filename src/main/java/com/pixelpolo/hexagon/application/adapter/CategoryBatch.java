@@ -0,0 +1,129 @@
+package com.pixelpolo.hexagon.application.adapter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.mapper.CategoryMapper;
+import com.pixelpolo.hexagon.application.validation.ValidationMessage;
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Batch request handling shared by CategoryAdapter and ReactiveCategoryAdapter,
+ * ProductAdapter validates its imported records and maps their statuses the same way.
+ * Invalid items are reported without reaching the domain, the valid ones are processed as one batch
+ * and every item gets its response at its index in the request.
+ */
+@Component
+@RequiredArgsConstructor
+class CategoryBatch {
+
+    private final CategoryMapper categoryMapper;
+    private final Validator validator;
+
+    @Value("${category.batch.max-size}")
+    private int batchMaxSize;
+
+    <R> List<BulkItemResponse> run(
+            List<R> requests, Function<R, String> validation, Function<List<R>, List<BulkItemResult>> operation) {
+        Split<R> split = split(requests, validation);
+        return split.complete(operation.apply(split.valid()));
+    }
+
+    // The valid items are then processed by the caller, blocking or not, and passed to Split.complete
+    <R> Split<R> split(List<R> requests, Function<R, String> validation) {
+        if (requests.size() > batchMaxSize) {
+            throw new BadRequestException("Batch size must be <= " + batchMaxSize);
+        }
+        Split<R> split = new Split<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validation.apply(requests.get(i));
+            if (error == null) {
+                split.validIndexes.add(i);
+                split.valid.add(requests.get(i));
+            } else {
+                split.responses[i] = BulkItemResponse.builder()
+                        .index(i).status(HttpStatus.BAD_REQUEST.value()).error(error).build();
+            }
+        }
+        return split;
+    }
+
+    // A null element of the JSON array is an invalid item, the validator rejects null objects
+    <R> String validate(R request) {
+        if (request == null) {
+            return ValidationMessage.NOT_NULL;
+        }
+        Set<ConstraintViolation<R>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    BulkItemResponse toBulkItemResponse(int index, BulkItemResult result) {
+        return BulkItemResponse.builder()
+                .index(index)
+                .status(toHttpStatus(result.getStatus()).value())
+                .categoryId(result.getCategoryId())
+                .category(result.getCategory() == null ? null : categoryMapper.toResponse(result.getCategory()))
+                .error(result.getError())
+                .build();
+    }
+
+    static HttpStatus toHttpStatus(BulkItemResult.Status status) {
+        return switch (status) {
+            case CREATED -> HttpStatus.CREATED;
+            case UPDATED -> HttpStatus.OK;
+            case DELETED -> HttpStatus.NO_CONTENT;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case CONFLICT -> HttpStatus.CONFLICT;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+        };
+    }
+
+    // A batch split into the responses of the invalid items and the valid items left to process
+    final class Split<R> {
+
+        private final BulkItemResponse[] responses;
+        private final List<Integer> validIndexes;
+        private final List<R> valid;
+
+        private Split(int size) {
+            this.responses = new BulkItemResponse[size];
+            this.validIndexes = new ArrayList<>(size);
+            this.valid = new ArrayList<>(size);
+        }
+
+        List<R> valid() {
+            return valid;
+        }
+
+        // The results are in the order of the valid items
+        List<BulkItemResponse> complete(List<BulkItemResult> results) {
+            for (int j = 0; j < results.size(); j++) {
+                int index = validIndexes.get(j);
+                responses[index] = toBulkItemResponse(index, results.get(j));
+            }
+            return Arrays.asList(responses);
+        }
+
+    }
+
+}
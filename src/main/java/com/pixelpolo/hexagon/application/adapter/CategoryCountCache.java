@@ -0,0 +1,56 @@
+package com.pixelpolo.hexagon.application.adapter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.domain.port.in.CategoryUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cache for the category totals exposed by the list endpoints.
+ * A total is loaded on first use, then refreshed periodically instead of on every list request,
+ * so it may lag behind writes by up to the refresh interval.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CategoryCountCache {
+
+    private final CategoryUseCase categoryUseCase;
+
+    // Null until first requested, so unused totals are never refreshed
+    private volatile Long count;
+    private volatile Long deletedCount;
+
+    public long getCount() {
+        Long cached = count;
+        if (cached == null) {
+            cached = categoryUseCase.count();
+            count = cached;
+        }
+        return cached;
+    }
+
+    public long getDeletedCount() {
+        Long cached = deletedCount;
+        if (cached == null) {
+            cached = categoryUseCase.countDeleted();
+            deletedCount = cached;
+        }
+        return cached;
+    }
+
+    @Scheduled(fixedDelayString = "${category.count.refresh-interval}",
+               initialDelayString = "${category.count.refresh-interval}")
+    public void refresh() {
+        if (count != null) {
+            count = categoryUseCase.count();
+        }
+        if (deletedCount != null) {
+            deletedCount = categoryUseCase.countDeleted();
+        }
+    }
+
+}
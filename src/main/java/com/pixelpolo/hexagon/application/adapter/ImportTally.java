@@ -0,0 +1,51 @@
+package com.pixelpolo.hexagon.application.adapter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpStatus;
+
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.ImportResponse;
+
+/**
+ * Totals of an import shared by CategoryAdapter and ProductAdapter.
+ * The chunks are written concurrently and add their responses here, only the first errors are kept.
+ */
+final class ImportTally {
+
+    private final int maxErrors;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ConcurrentLinkedQueue<BulkItemResponse> errors = new ConcurrentLinkedQueue<>();
+
+    ImportTally(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    // Returns the number of created records
+    long add(List<BulkItemResponse> responses) {
+        long createdCount = 0;
+        for (BulkItemResponse response : responses) {
+            if (response.getStatus() == HttpStatus.CREATED.value()) {
+                createdCount++;
+            } else if (failed.incrementAndGet() <= maxErrors) {
+                errors.add(response);
+            }
+        }
+        created.addAndGet(createdCount);
+        return createdCount;
+    }
+
+    ImportResponse toResponse() {
+        return ImportResponse.builder()
+                .total(created.get() + failed.get())
+                .created(created.get())
+                .failed(failed.get())
+                .errors(errors.stream().sorted(Comparator.comparingInt(BulkItemResponse::getIndex)).toList())
+                .build();
+    }
+
+}
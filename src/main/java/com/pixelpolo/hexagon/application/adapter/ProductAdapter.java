@@ -0,0 +1,127 @@
+package com.pixelpolo.hexagon.application.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.ImportResponse;
+import com.pixelpolo.hexagon.application.dto.ProductRequest;
+import com.pixelpolo.hexagon.application.dto.ProductResponse;
+import com.pixelpolo.hexagon.application.dto.ProductSummaryResponse;
+import com.pixelpolo.hexagon.application.mapper.ProductMapper;
+import com.pixelpolo.hexagon.common.utils.DataFormat;
+import com.pixelpolo.hexagon.common.utils.ExportUtils;
+import com.pixelpolo.hexagon.common.utils.ImportUtils;
+import com.pixelpolo.hexagon.domain.model.ProductBulkItemResult;
+import com.pixelpolo.hexagon.domain.port.in.ProductUseCase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter class for Product operations.
+ * Acts as a bridge between the application layer and the domain layer.
+ * It uses the ProductUseCase to perform operations and
+ * the ProductMapper to convert between domain models and DTOs.
+ * Imports are read, validated and created by chunks like the category imports.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductAdapter {
+
+    public static final String IMPORT_COUNTER = "product.import.records";
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "productId", "categoryId", "categoryName", "name", "description", "createdAt", "updatedAt");
+
+    private final ProductUseCase productUseCase;
+    private final ProductMapper productMapper;
+    private final CategoryBatch categoryBatch;
+    private final ExportUtils exportUtils;
+    private final ImportUtils importUtils;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.import.chunk-size}")
+    private int importChunkSize;
+
+    @Value("${product.import.max-in-flight}")
+    private int importMaxInFlight;
+
+    @Value("${product.import.max-errors}")
+    private int importMaxErrors;
+
+    public ProductResponse createProduct(ProductRequest productRequest) {
+        return productMapper.toResponse(productUseCase.create(productMapper.toDomain(productRequest)));
+    }
+
+    public ProductResponse updateProduct(Long id, ProductRequest productRequest) {
+        return productMapper.toResponse(productUseCase.update(id, productMapper.toDomain(productRequest)));
+    }
+
+    public Window<ProductSummaryResponse> getAllProducts(Long categoryId, KeysetScrollPosition position, int size) {
+        return productUseCase.getAll(categoryId, position, size).map(productMapper::toSummaryResponse);
+    }
+
+    public void exportProducts(DataFormat format, OutputStream outputStream) throws IOException {
+        exportUtils.write(outputStream, format, EXPORT_COLUMNS,
+                          (ProductResponse p) -> Arrays.asList(p.getProductId(), p.getCategoryId(), p.getCategoryName(),
+                                                               p.getName(), p.getDescription(),
+                                                               p.getCreatedAt(), p.getUpdatedAt()),
+                          action -> productUseCase.exportAll(product -> action.accept(productMapper.toResponse(product))));
+    }
+
+    // The records counter gives the progress of the running imports
+    public ImportResponse importProducts(DataFormat format, InputStream inputStream) throws IOException {
+        ImportTally tally = new ImportTally(importMaxErrors);
+        importUtils.read(inputStream, format, ProductRequest.class, importChunkSize, importMaxInFlight, chunk -> {
+            List<BulkItemResponse> responses = new ArrayList<>(chunk.size());
+            List<ImportUtils.Row<ProductRequest>> valid = new ArrayList<>(chunk.size());
+            for (ImportUtils.Row<ProductRequest> row : chunk) {
+                String error = row.error() != null ? row.error() : categoryBatch.validate(row.value());
+                if (error == null) {
+                    valid.add(row);
+                } else {
+                    responses.add(BulkItemResponse.builder()
+                                          .index(row.index()).status(HttpStatus.BAD_REQUEST.value()).error(error).build());
+                }
+            }
+            if (!valid.isEmpty()) {
+                List<ProductBulkItemResult> results = productUseCase.createAll(
+                        valid.stream().map(row -> productMapper.toDomain(row.value())).toList());
+                for (int j = 0; j < results.size(); j++) {
+                    responses.add(BulkItemResponse.builder()
+                                          .index(valid.get(j).index())
+                                          .status(CategoryBatch.toHttpStatus(results.get(j).getStatus()).value())
+                                          .error(results.get(j).getError())
+                                          .build());
+                }
+            }
+            long created = tally.add(responses);
+            meterRegistry.counter(IMPORT_COUNTER, "status", "created").increment(created);
+            meterRegistry.counter(IMPORT_COUNTER, "status", "failed").increment(responses.size() - created);
+        });
+        return tally.toResponse();
+    }
+
+    public ProductResponse getProductById(Long id) {
+        return productMapper.toResponse(productUseCase.getById(id));
+    }
+
+    public void softDeleteProduct(long id) {
+        productUseCase.softDelete(id);
+    }
+
+    public void hardDeleteProduct(long id) {
+        productUseCase.hardDelete(id);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.pixelpolo.hexagon.application.adapter;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.CategoryRequest;
+import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.application.mapper.CategoryMapper;
+import com.pixelpolo.hexagon.application.validation.ValidationMessage;
+import com.pixelpolo.hexagon.common.exception.PreconditionFailedException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.common.utils.ETagUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.in.ReactiveCategoryUseCase;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adapter class for Category operations on the reactive stack.
+ * Same mapping, validation and batch reporting as CategoryAdapter, on top of the ReactiveCategoryUseCase.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCategoryAdapter {
+
+    private final ReactiveCategoryUseCase categoryUseCase;
+    private final CategoryMapper categoryMapper;
+    private final CategoryBatch categoryBatch;
+
+    public Mono<CategoryResponse> createCategory(CategoryRequest categoryRequest) {
+        return categoryUseCase.create(categoryMapper.toDomain(categoryRequest)).map(categoryMapper::toResponse);
+    }
+
+    // Same version rules as CategoryAdapter.updateCategory: a stale If-Match is a 412, a stale body version a 409
+    public Mono<CategoryResponse> updateCategory(Long id, Long expectedVersion, CategoryRequest categoryRequest) {
+        Category category = categoryMapper.toDomain(categoryRequest);
+        if (expectedVersion == null) {
+            return categoryUseCase.update(id, category).map(categoryMapper::toResponse);
+        }
+        category.setVersion(expectedVersion);
+        return categoryUseCase.update(id, category)
+                .onErrorMap(CategoryVersionMismatchException.class, e -> new PreconditionFailedException(e.getMessage()))
+                .map(categoryMapper::toResponse);
+    }
+
+    public Mono<List<BulkItemResponse>> createCategories(List<CategoryRequest> categoryRequests) {
+        CategoryBatch.Split<CategoryRequest> split = categoryBatch.split(categoryRequests, categoryBatch::validate);
+        return categoryUseCase.createAll(split.valid().stream().map(categoryMapper::toDomain).toList())
+                .map(split::complete);
+    }
+
+    public Mono<List<BulkItemResponse>> deleteCategories(List<Long> ids, boolean hard) {
+        CategoryBatch.Split<Long> split = categoryBatch.split(ids, id -> id == null ? ValidationMessage.NOT_NULL : null);
+        return (hard ? categoryUseCase.hardDeleteAll(split.valid()) : categoryUseCase.softDeleteAll(split.valid()))
+                .map(split::complete);
+    }
+
+    public Flux<CategoryResponse> exportCategories() {
+        return categoryUseCase.exportAll().map(categoryMapper::toResponse);
+    }
+
+    public Mono<Window<CategoryResponse>> getAllCategories(KeysetScrollPosition position, int size) {
+        return categoryUseCase.getAll(position, size).map(window -> window.map(categoryMapper::toResponse));
+    }
+
+    public Mono<Long> countCategories() {
+        return categoryUseCase.count();
+    }
+
+    // Empty if the client copy is current: the exchange then holds the 304 and the mapper is skipped
+    public Mono<CategoryResponse> getCategoryById(long id, ServerWebExchange exchange) {
+        return categoryUseCase.getById(id)
+                .filter(category -> !exchange.checkNotModified(ETagUtils.of(id, category.getVersion()),
+                                                               lastModified(category)))
+                .map(categoryMapper::toResponse);
+    }
+
+    public Mono<Void> softDeleteCategory(long id) {
+        return categoryUseCase.softDelete(id);
+    }
+
+    public Mono<Void> hardDeleteCategory(long id) {
+        return categoryUseCase.hardDelete(id);
+    }
+
+    // Null when unknown, Last-Modified is then not sent
+    private static Instant lastModified(Category category) {
+        long lastModified = ETagUtils.lastModified(category.getUpdatedAt());
+        return lastModified < 0 ? null : Instant.ofEpochMilli(lastModified);
+    }
+
+}
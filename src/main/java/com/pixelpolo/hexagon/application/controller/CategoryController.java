@@ -1,9 +1,16 @@
 package com.pixelpolo.hexagon.application.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +18,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.pixelpolo.hexagon.application.adapter.CategoryAdapter;
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.CategoryBatchUpdateRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.application.dto.ImportResponse;
+import com.pixelpolo.hexagon.common.utils.DataFormat;
+import com.pixelpolo.hexagon.common.utils.ETagUtils;
+import com.pixelpolo.hexagon.common.utils.ExportUtils;
 import com.pixelpolo.hexagon.common.utils.LocationUtils;
 import com.pixelpolo.hexagon.common.utils.PaginationUtils;
 
@@ -31,36 +47,84 @@ import lombok.RequiredArgsConstructor;
 @RestController
 @RequestMapping("/api/${api.version}/categories")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CategoryController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    // Last key of every cursor, after the keys of the sort
+    private static final String CURSOR_KEY = "categoryId";
+
     private final CategoryAdapter categoryAdapter;
     private final PaginationUtils paginationUtils;
     private final LocationUtils locationUtils;
+    private final ExportUtils exportUtils;
 
-    // GET /api/v_/categories?page=_&size=_&sortBy=_&sortDir=_
+    // GET /api/v_/categories?page=_&size=_&sortBy=_&sortDir=_&includeTotal=_
+    // GET /api/v_/categories?after=_&size=_&sortBy=_&sortDir=_&includeTotal=_ (cursor mode, empty "after" for the first window)
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getAllCategories(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "categoryId") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request) {
+        if (after != null) {
+            Sort sort = paginationUtils.buildSort(sortBy, sortDir);
+            KeysetScrollPosition position = paginationUtils.buildScrollPosition(after, size, sort, CURSOR_KEY);
+            Window<CategoryResponse> window = categoryAdapter.getAllCategories(position, sort, size);
+            return toCursorResponse(window, includeTotal ? categoryAdapter.countCategories() : null, request);
+        }
         PageRequest pageRequest = paginationUtils.buildPageRequest(page, size, sortBy, sortDir);
-        return ResponseEntity.ok(categoryAdapter.getAllCategories(pageRequest));
+        List<CategoryResponse> categories = categoryAdapter.getAllCategories(pageRequest);
+        Long total = includeTotal ? categoryAdapter.countCategories() : null;
+        if (notModified(request, categories, total, null)) {
+            return null;
+        }
+        return okWithTotal(total).body(categories);
     }
 
-    // GET /api/v_/categories/deleted?page=_&size=_&sortBy=_&sortDir=_
+    // GET /api/v_/categories/deleted?page=_&size=_&sortBy=_&sortDir=_&includeTotal=_
+    // GET /api/v_/categories/deleted?after=_&size=_&sortBy=_&sortDir=_&includeTotal=_ (cursor mode, empty "after" for the first window)
     @GetMapping("/deleted")
     public ResponseEntity<List<CategoryResponse>> getAllDeletedCategories(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "categoryId") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request) {
+        if (after != null) {
+            Sort sort = paginationUtils.buildSort(sortBy, sortDir);
+            KeysetScrollPosition position = paginationUtils.buildScrollPosition(after, size, sort, CURSOR_KEY);
+            Window<CategoryResponse> window = categoryAdapter.getAllDeletedCategories(position, sort, size);
+            return toCursorResponse(window, includeTotal ? categoryAdapter.countDeletedCategories() : null, request);
+        }
         PageRequest pageRequest = paginationUtils.buildPageRequest(page, size, sortBy, sortDir);
-        return ResponseEntity.ok(categoryAdapter.getAllDeletedCategories(pageRequest));
+        List<CategoryResponse> categories = categoryAdapter.getAllDeletedCategories(pageRequest);
+        Long total = includeTotal ? categoryAdapter.countDeletedCategories() : null;
+        if (notModified(request, categories, total, null)) {
+            return null;
+        }
+        return okWithTotal(total).body(categories);
     }
 
-    // GET /api/v_/categories/{id}
+    // GET /api/v_/categories/export?format=ndjson|csv (live categories ordered by ID, written as they are read)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCategories(@RequestParam(defaultValue = "ndjson") String format) {
+        DataFormat dataFormat = DataFormat.from(format);
+        return exportUtils.buildResponse(dataFormat, "categories",
+                                         outputStream -> categoryAdapter.exportCategories(dataFormat, outputStream));
+    }
+
+    // GET /api/v_/categories/{id} (ETag and Last-Modified, 304 for If-None-Match or If-Modified-Since)
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
-        return ResponseEntity.ok(categoryAdapter.getCategoryById(id));
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id, WebRequest request) {
+        CategoryResponse category = categoryAdapter.getCategoryById(id, request);
+        // Not modified, the 304 status and headers are already set
+        return category == null ? null : ResponseEntity.ok(category);
     }
 
     // POST /api/v_/categories
@@ -71,12 +135,45 @@ public class CategoryController {
         return ResponseEntity.created(location).body(created);
     }
 
-    // PUT /api/v_/categories/{id}
+    // PUT /api/v_/categories/{id} (If-Match to only update the version the client has, 412 otherwise)
     @PutMapping("/{id}")
     public ResponseEntity<CategoryResponse> updateCategory(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CategoryRequest categoryRequest) {
-        return ResponseEntity.ok(categoryAdapter.updateCategory(id, categoryRequest));
+        CategoryResponse updated = categoryAdapter.updateCategory(id, ETagUtils.expectedVersion(ifMatch, id), categoryRequest);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(updated.getCategoryId(), updated.getVersion()))
+                .body(updated);
+    }
+
+    // POST /api/v_/categories/batch
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkItemResponse>> createCategories(@RequestBody List<CategoryRequest> categoryRequests) {
+        return ResponseEntity.ok(categoryAdapter.createCategories(categoryRequests));
+    }
+
+    // PUT /api/v_/categories/batch
+    @PutMapping("/batch")
+    public ResponseEntity<List<BulkItemResponse>> updateCategories(
+            @RequestBody List<CategoryBatchUpdateRequest> categoryRequests) {
+        return ResponseEntity.ok(categoryAdapter.updateCategories(categoryRequests));
+    }
+
+    // POST /api/v_/categories/import?format=ndjson|csv (the body is read as it arrives, one record per line)
+    @PostMapping("/import")
+    public ResponseEntity<ImportResponse> importCategories(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(categoryAdapter.importCategories(DataFormat.from(format), body));
+    }
+
+    // POST /api/v_/categories/batch/delete?hard=false
+    @PostMapping("/batch/delete")
+    public ResponseEntity<List<BulkItemResponse>> deleteCategories(
+            @RequestBody List<Long> ids,
+            @RequestParam(defaultValue = "false") boolean hard) {
+        return ResponseEntity.ok(categoryAdapter.deleteCategories(ids, hard));
     }
 
     // DELETE /api/v_/categories/{id}?hard=false
@@ -92,4 +189,36 @@ public class CategoryController {
         return ResponseEntity.noContent().build();
     }
 
+    // The total header is only set when requested
+    private ResponseEntity.BodyBuilder okWithTotal(Long total) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (total != null) {
+            builder.header(TOTAL_COUNT_HEADER, String.valueOf(total));
+        }
+        return builder;
+    }
+
+    // The next cursor header is omitted on the last window
+    private ResponseEntity<List<CategoryResponse>> toCursorResponse(
+            Window<CategoryResponse> window, Long total, WebRequest request) {
+        String nextCursor = paginationUtils.buildNextCursor(window);
+        if (notModified(request, window.getContent(), total, nextCursor)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = okWithTotal(total);
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(window.getContent());
+    }
+
+    // The list ETag covers the versions of the items and the headers, it is checked once the list is read and mapped:
+    // a 304 only saves the serialization and the transfer. Deriving it up front would take a count of the rows on each request.
+    private boolean notModified(WebRequest request, List<CategoryResponse> categories, Long total, String nextCursor) {
+        StringBuilder content = new StringBuilder();
+        categories.forEach(category -> content.append(ETagUtils.of(category.getCategoryId(), category.getVersion())));
+        content.append(';').append(total).append(';').append(nextCursor);
+        return request.checkNotModified(ETagUtils.ofList(content.toString()));
+    }
+
 }
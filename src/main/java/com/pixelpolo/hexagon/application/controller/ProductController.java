@@ -0,0 +1,119 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.pixelpolo.hexagon.application.adapter.ProductAdapter;
+import com.pixelpolo.hexagon.application.dto.ImportResponse;
+import com.pixelpolo.hexagon.application.dto.ProductRequest;
+import com.pixelpolo.hexagon.application.dto.ProductResponse;
+import com.pixelpolo.hexagon.application.dto.ProductSummaryResponse;
+import com.pixelpolo.hexagon.common.utils.DataFormat;
+import com.pixelpolo.hexagon.common.utils.ExportUtils;
+import com.pixelpolo.hexagon.common.utils.LocationUtils;
+import com.pixelpolo.hexagon.common.utils.PaginationUtils;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Product REST Controller.
+ * Handles HTTP requests for Product operations and delegates to the ProductAdapter.
+ * Lists are always paginated with cursors, ordered by product ID.
+ */
+@RestController
+@RequestMapping("/api/${api.version}/products")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductController {
+
+    private final ProductAdapter productAdapter;
+    private final PaginationUtils paginationUtils;
+    private final LocationUtils locationUtils;
+    private final ExportUtils exportUtils;
+
+    // GET /api/v_/products?categoryId=_&after=_&size=_ (no "after" for the first window)
+    @GetMapping
+    public ResponseEntity<List<ProductSummaryResponse>> getAllProducts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        KeysetScrollPosition position = paginationUtils.buildScrollPosition(after, size);
+        Window<ProductSummaryResponse> window = productAdapter.getAllProducts(categoryId, position, size);
+        String nextCursor = paginationUtils.buildNextCursor(window);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(CategoryController.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(window.getContent());
+    }
+
+    // GET /api/v_/products/export?format=ndjson|csv (live products ordered by ID, written as they are read)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        DataFormat dataFormat = DataFormat.from(format);
+        return exportUtils.buildResponse(dataFormat, "products",
+                                         outputStream -> productAdapter.exportProducts(dataFormat, outputStream));
+    }
+
+    // GET /api/v_/products/{id}
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+        return ResponseEntity.ok(productAdapter.getProductById(id));
+    }
+
+    // POST /api/v_/products
+    @PostMapping
+    public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody ProductRequest productRequest) {
+        ProductResponse created = productAdapter.createProduct(productRequest);
+        URI location = locationUtils.getLocation(created.getProductId(), "products");
+        return ResponseEntity.created(location).body(created);
+    }
+
+    // POST /api/v_/products/import?format=ndjson|csv (the body is read as it arrives, one record per line)
+    @PostMapping("/import")
+    public ResponseEntity<ImportResponse> importProducts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(productAdapter.importProducts(DataFormat.from(format), body));
+    }
+
+    // PUT /api/v_/products/{id}
+    @PutMapping("/{id}")
+    public ResponseEntity<ProductResponse> updateProduct(
+            @PathVariable Long id,
+            @Valid @RequestBody ProductRequest productRequest) {
+        return ResponseEntity.ok(productAdapter.updateProduct(id, productRequest));
+    }
+
+    // DELETE /api/v_/products/{id}?hard=false
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ProductResponse> deleteProduct(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean hard) {
+        if (hard) {
+            productAdapter.hardDeleteProduct(id);
+        } else {
+            productAdapter.softDeleteProduct(id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+}
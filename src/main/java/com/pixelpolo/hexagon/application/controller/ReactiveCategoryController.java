@@ -0,0 +1,127 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.pixelpolo.hexagon.application.adapter.ReactiveCategoryAdapter;
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
+import com.pixelpolo.hexagon.application.dto.CategoryRequest;
+import com.pixelpolo.hexagon.application.dto.CategoryResponse;
+import com.pixelpolo.hexagon.common.utils.ETagUtils;
+import com.pixelpolo.hexagon.common.utils.LocationUtils;
+import com.pixelpolo.hexagon.common.utils.PaginationUtils;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Category REST Controller of the reactive stack (reactive profile).
+ * Serves the category endpoints of CategoryController on WebFlux and delegates to the ReactiveCategoryAdapter.
+ * Lists are cursor windows ordered by ID, pages and sorts are left to the MVC stack.
+ */
+@RestController
+@RequestMapping("/api/${api.version}/categories")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCategoryController {
+
+    private final ReactiveCategoryAdapter categoryAdapter;
+    private final PaginationUtils paginationUtils;
+    private final LocationUtils locationUtils;
+
+    // GET /api/v_/categories?after=_&size=_&includeTotal=_ (empty or no "after" for the first window)
+    @GetMapping
+    public Mono<ResponseEntity<List<CategoryResponse>>> getAllCategories(
+            @RequestParam(defaultValue = "") String after, @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetScrollPosition position = paginationUtils.buildScrollPosition(after, size);
+        Mono<Long> total = includeTotal ? categoryAdapter.countCategories() : Mono.just(-1L);
+        return categoryAdapter.getAllCategories(position, size).zipWith(total, (window, count) -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (count >= 0) {
+                builder.header(CategoryController.TOTAL_COUNT_HEADER, String.valueOf(count));
+            }
+            // The next cursor header is omitted on the last window
+            String nextCursor = paginationUtils.buildNextCursor(window);
+            if (nextCursor != null) {
+                builder.header(CategoryController.NEXT_CURSOR_HEADER, nextCursor);
+            }
+            return builder.body(window.getContent());
+        });
+    }
+
+    // GET /api/v_/categories/export (live categories ordered by ID, one JSON document per line as they are read)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CategoryResponse> exportCategories() {
+        return categoryAdapter.exportCategories();
+    }
+
+    // GET /api/v_/categories/{id} (ETag and Last-Modified, 304 for If-None-Match or If-Modified-Since)
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CategoryResponse>> getCategoryById(@PathVariable Long id, ServerWebExchange exchange) {
+        // Empty when not modified, the 304 status and headers are already set
+        return categoryAdapter.getCategoryById(id, exchange).map(ResponseEntity::ok);
+    }
+
+    // POST /api/v_/categories
+    @PostMapping
+    public Mono<ResponseEntity<CategoryResponse>> createCategory(@Valid @RequestBody CategoryRequest categoryRequest) {
+        return categoryAdapter.createCategory(categoryRequest)
+                .map(created -> ResponseEntity.created(locationUtils.getLocation(created.getCategoryId(), "categories"))
+                        .body(created));
+    }
+
+    // PUT /api/v_/categories/{id} (If-Match to only update the version the client has, 412 otherwise)
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CategoryResponse>> updateCategory(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CategoryRequest categoryRequest) {
+        return Mono.defer(() -> categoryAdapter.updateCategory(id, ETagUtils.expectedVersion(ifMatch, id), categoryRequest))
+                .map(updated -> ResponseEntity.ok()
+                        .eTag(ETagUtils.of(updated.getCategoryId(), updated.getVersion()))
+                        .body(updated));
+    }
+
+    // POST /api/v_/categories/batch
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<BulkItemResponse>>> createCategories(@RequestBody List<CategoryRequest> categoryRequests) {
+        return categoryAdapter.createCategories(categoryRequests).map(ResponseEntity::ok);
+    }
+
+    // POST /api/v_/categories/batch/delete?hard=false
+    @PostMapping("/batch/delete")
+    public Mono<ResponseEntity<List<BulkItemResponse>>> deleteCategories(
+            @RequestBody List<Long> ids,
+            @RequestParam(defaultValue = "false") boolean hard) {
+        return categoryAdapter.deleteCategories(ids, hard).map(ResponseEntity::ok);
+    }
+
+    // DELETE /api/v_/categories/{id}?hard=false
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCategory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean hard) {
+        Mono<Void> deletion = hard ? categoryAdapter.hardDeleteCategory(id) : categoryAdapter.softDeleteCategory(id);
+        return deletion.then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
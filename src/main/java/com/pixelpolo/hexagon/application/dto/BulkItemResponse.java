@@ -0,0 +1,20 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for the result of one item of a batch request.
+ * The index refers to the position of the item in the request, the status is an HTTP status code.
+ */
+@Data
+@Builder
+public class BulkItemResponse {
+
+    private int index;
+    private int status;
+    private Long categoryId;
+    private CategoryResponse category;
+    private String error;
+
+}
@@ -0,0 +1,26 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import com.pixelpolo.hexagon.application.validation.ValidationMessage;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for updating a category in a batch, the ID is part of the item.
+ */
+@Data
+@Builder
+public class CategoryBatchUpdateRequest {
+
+    @NotNull(message = ValidationMessage.NOT_NULL)
+    private Long categoryId;
+
+    @NotNull(message = ValidationMessage.NOT_NULL)
+    @NotBlank(message = ValidationMessage.NOT_BLANK)
+    @Size(max = 128, message = ValidationMessage.MAX_SIZE_128)
+    private String name;
+
+}
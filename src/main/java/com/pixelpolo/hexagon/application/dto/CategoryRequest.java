@@ -4,6 +4,7 @@ import com.pixelpolo.hexagon.application.validation.ValidationMessage;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,8 @@ public class CategoryRequest {
     @Size(max = 128, message = ValidationMessage.MAX_SIZE_128)
     private String name;
 
+    // Optional on updates, the category is then only updated at this version
+    @PositiveOrZero(message = ValidationMessage.POSITIVE_OR_ZERO)
+    private Long version;
+
 }
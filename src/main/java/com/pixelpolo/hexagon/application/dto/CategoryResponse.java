@@ -15,5 +15,7 @@ public class CategoryResponse {
     private Long categoryId;
     private String name;
     private LocalDateTime deletionDate;
+    private Long version;
+    private LocalDateTime updatedAt;
 
 }
@@ -0,0 +1,21 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for the result of an import.
+ * Only the failed records are listed, up to the configured maximum, the counts cover all records.
+ */
+@Data
+@Builder
+public class ImportResponse {
+
+    private long total;
+    private long created;
+    private long failed;
+    private List<BulkItemResponse> errors;
+
+}
@@ -0,0 +1,29 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import com.pixelpolo.hexagon.application.validation.ValidationMessage;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for creating or updating a product.
+ */
+@Data
+@Builder
+public class ProductRequest {
+
+    @NotNull(message = ValidationMessage.NOT_NULL)
+    private Long categoryId;
+
+    @NotNull(message = ValidationMessage.NOT_NULL)
+    @NotBlank(message = ValidationMessage.NOT_BLANK)
+    @Size(max = 128, message = ValidationMessage.MAX_SIZE_128)
+    private String name;
+
+    @Size(max = 512, message = ValidationMessage.MAX_SIZE_512)
+    private String description;
+
+}
@@ -0,0 +1,23 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for product response.
+ */
+@Data
+@Builder
+public class ProductResponse {
+
+    private Long productId;
+    private Long categoryId;
+    private String categoryName;
+    private String name;
+    private String description;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+}
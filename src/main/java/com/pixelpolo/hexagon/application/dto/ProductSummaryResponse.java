@@ -0,0 +1,18 @@
+package com.pixelpolo.hexagon.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for a product in a list, the details are served by the product endpoint.
+ */
+@Data
+@Builder
+public class ProductSummaryResponse {
+
+    private Long productId;
+    private Long categoryId;
+    private String categoryName;
+    private String name;
+
+}
@@ -1,52 +1,105 @@
 package com.pixelpolo.hexagon.application.exception;
 
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.List;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.exception.ConflictException;
 import com.pixelpolo.hexagon.common.exception.ExistException;
 import com.pixelpolo.hexagon.common.exception.NotFoundException;
+import com.pixelpolo.hexagon.common.exception.PreconditionFailedException;
 
 /**
  * Global exception handler for the application layer.
+ * Every error is an RFC 7807 ProblemDetail (application/problem+json) with a type from ProblemType,
+ * the Spring MVC exceptions (malformed body, missing parameter...) are handled the same way by the parent class.
  */
 @ControllerAdvice
-public class GlobalExceptionHandler {
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    static final String VALIDATION_DETAIL = "The request has invalid fields.";
+    static final String DUPLICATE_KEY_DETAIL = "The resource already exists.";
+    static final String DATA_INTEGRITY_DETAIL = "The request conflicts with the stored data.";
+    static final String SQL_DETAIL = "The request could not be processed by the database.";
+
+    /**
+     * A field rejected by the bean validation, listed in the "errors" property of a validation problem.
+     */
+    public record InvalidField(String field, String message) {
+    }
 
     // Not Found Exception Handler
     @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<String> handleNotFound(NotFoundException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+    public ResponseEntity<ProblemDetail> handleNotFound(NotFoundException ex) {
+        return ProblemType.NOT_FOUND.toResponse(ex.getMessage());
     }
 
     // Exist Exception Handler
     @ExceptionHandler(ExistException.class)
-    public ResponseEntity<String> handleExist(ExistException ex) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    public ResponseEntity<ProblemDetail> handleExist(ExistException ex) {
+        return ProblemType.ALREADY_EXISTS.toResponse(ex.getMessage());
+    }
+
+    // Conflict Exception Handler (stale version in the request body)
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(ConflictException ex) {
+        return ProblemType.VERSION_CONFLICT.toResponse(ex.getMessage());
+    }
+
+    // Precondition Failed Exception Handler (stale If-Match header)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ProblemType.PRECONDITION_FAILED.toResponse(ex.getMessage());
     }
 
     // Bad request Exception Handler
     @ExceptionHandler(BadRequestException.class)
-    public ResponseEntity<String> handleBadRequest(BadRequestException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    public ResponseEntity<ProblemDetail> handleBadRequest(BadRequestException ex) {
+        return ProblemType.BAD_REQUEST.toResponse(ex.getMessage());
     }
 
-    // SQL Exception Handler
+    // Duplicate Key Exception Handler (unique index of either store not translated by an adapter)
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicateKey(DuplicateKeyException ex) {
+        return ProblemType.ALREADY_EXISTS.toResponse(DUPLICATE_KEY_DETAIL);
+    }
+
+    // Data Integrity Exception Handler (any other constraint), the database message is not sent back
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return ProblemType.DATA_INTEGRITY.toResponse(DATA_INTEGRITY_DETAIL);
+    }
+
+    // SQL Exception Handler, the database message is not sent back
     @ExceptionHandler(SQLException.class)
-    public ResponseEntity<Map<String, Object>> handleSQLException(SQLException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(Map.of(
-                        "timestamp", LocalDateTime.now().toString(),
-                        "status", 400,
-                        "error", "Bad Request",
-                        "message", ex.getMessage()
-                ));
+    public ResponseEntity<ProblemDetail> handleSQLException(SQLException ex) {
+        return ProblemType.BAD_REQUEST.toResponse(SQL_DETAIL);
+    }
+
+    // Bean validation of a request body, each rejected field is listed
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(
+            MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        List<InvalidField> errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> new InvalidField(error.getField(), error.getDefaultMessage()))
+                .toList();
+        ProblemDetail problem = ProblemType.VALIDATION.toProblem(VALIDATION_DETAIL);
+        problem.setProperty("errors", errors);
+        return handleExceptionInternal(ex, problem, headers, status, request);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.pixelpolo.hexagon.application.exception;
+
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import lombok.Getter;
+
+/**
+ * Problem types of the error responses (RFC 7807 ProblemDetail).
+ * The type URI, title and status are built once, an error response only adds its detail.
+ */
+@Getter
+public enum ProblemType {
+
+    NOT_FOUND(HttpStatus.NOT_FOUND, "not-found", "Resource not found"),
+    ALREADY_EXISTS(HttpStatus.CONFLICT, "already-exists", "Resource already exists"),
+    VERSION_CONFLICT(HttpStatus.CONFLICT, "version-conflict", "Resource modified concurrently"),
+    DATA_INTEGRITY(HttpStatus.CONFLICT, "data-integrity", "Data integrity violation"),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "precondition-failed", "Precondition failed"),
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "bad-request", "Bad request"),
+    VALIDATION(HttpStatus.BAD_REQUEST, "validation", "Validation failed");
+
+    // Relative to the API host, as allowed by RFC 7807
+    private static final String TYPE_PREFIX = "/problems/";
+
+    private final HttpStatus status;
+    private final URI type;
+    private final String title;
+
+    ProblemType(HttpStatus status, String type, String title) {
+        this.status = status;
+        this.type = URI.create(TYPE_PREFIX + type);
+        this.title = title;
+    }
+
+    public ProblemDetail toProblem(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
+        problem.setType(type);
+        problem.setTitle(title);
+        return problem;
+    }
+
+    public ResponseEntity<ProblemDetail> toResponse(String detail) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_PROBLEM_JSON).body(toProblem(detail));
+    }
+
+}
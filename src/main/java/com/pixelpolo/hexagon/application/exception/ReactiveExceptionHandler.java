@@ -0,0 +1,88 @@
+package com.pixelpolo.hexagon.application.exception;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.exception.ConflictException;
+import com.pixelpolo.hexagon.common.exception.ExistException;
+import com.pixelpolo.hexagon.common.exception.NotFoundException;
+import com.pixelpolo.hexagon.common.exception.PreconditionFailedException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Exception handler of the reactive stack, the WebFlux counterpart of GlobalExceptionHandler.
+ * The error responses are the same ProblemDetail of the same ProblemType, whatever the stack.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler {
+
+    // Not Found Exception Handler
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleNotFound(NotFoundException ex) {
+        return ProblemType.NOT_FOUND.toResponse(ex.getMessage());
+    }
+
+    // Exist Exception Handler
+    @ExceptionHandler(ExistException.class)
+    public ResponseEntity<ProblemDetail> handleExist(ExistException ex) {
+        return ProblemType.ALREADY_EXISTS.toResponse(ex.getMessage());
+    }
+
+    // Conflict Exception Handler (stale version in the request body)
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(ConflictException ex) {
+        return ProblemType.VERSION_CONFLICT.toResponse(ex.getMessage());
+    }
+
+    // Precondition Failed Exception Handler (stale If-Match header)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ProblemType.PRECONDITION_FAILED.toResponse(ex.getMessage());
+    }
+
+    // Bad request Exception Handler
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ProblemDetail> handleBadRequest(BadRequestException ex) {
+        return ProblemType.BAD_REQUEST.toResponse(ex.getMessage());
+    }
+
+    // Duplicate Key Exception Handler (unique index of either store not translated by an adapter)
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicateKey(DuplicateKeyException ex) {
+        return ProblemType.ALREADY_EXISTS.toResponse(GlobalExceptionHandler.DUPLICATE_KEY_DETAIL);
+    }
+
+    // Data Integrity Exception Handler (any other constraint), the database message is not sent back
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return ProblemType.DATA_INTEGRITY.toResponse(GlobalExceptionHandler.DATA_INTEGRITY_DETAIL);
+    }
+
+    // Bean validation of a request body, each rejected field is listed
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+            WebExchangeBindException ex, HttpHeaders headers, HttpStatusCode status, ServerWebExchange exchange) {
+        List<GlobalExceptionHandler.InvalidField> errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> new GlobalExceptionHandler.InvalidField(error.getField(), error.getDefaultMessage()))
+                .toList();
+        ProblemDetail problem = ProblemType.VALIDATION.toProblem(GlobalExceptionHandler.VALIDATION_DETAIL);
+        problem.setProperty("errors", errors);
+        return handleExceptionInternal(ex, problem, headers, status, exchange);
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.mapstruct.Mapper;
 
+import com.pixelpolo.hexagon.application.dto.CategoryBatchUpdateRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryResponse;
 import com.pixelpolo.hexagon.domain.model.Category;
@@ -18,6 +19,8 @@ public interface CategoryMapper {
 
     Category toDomain(CategoryRequest request);
 
+    Category toDomain(CategoryBatchUpdateRequest request);
+
     List<CategoryResponse> toResponseList(List<Category> categories);
 
     List<Category> toDomainList(List<CategoryRequest> categories);
@@ -0,0 +1,28 @@
+package com.pixelpolo.hexagon.application.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.pixelpolo.hexagon.application.dto.ProductRequest;
+import com.pixelpolo.hexagon.application.dto.ProductResponse;
+import com.pixelpolo.hexagon.application.dto.ProductSummaryResponse;
+import com.pixelpolo.hexagon.domain.model.Product;
+
+/**
+ * Mapper interface for converting between Product domain model and DTO.
+ */
+@Mapper(componentModel = "spring")
+public interface ProductMapper {
+
+    @Mapping(target = "categoryId", source = "category.categoryId")
+    @Mapping(target = "categoryName", source = "category.name")
+    ProductResponse toResponse(Product product);
+
+    @Mapping(target = "categoryId", source = "category.categoryId")
+    @Mapping(target = "categoryName", source = "category.name")
+    ProductSummaryResponse toSummaryResponse(Product product);
+
+    @Mapping(target = "category.categoryId", source = "categoryId")
+    Product toDomain(ProductRequest request);
+
+}
@@ -8,5 +8,7 @@ public interface ValidationMessage {
     String NOT_NULL = "The field must not be null.";
     String NOT_BLANK = "The field must not be blank.";
     String MAX_SIZE_128 = "The field must be at most 128 characters long.";
+    String MAX_SIZE_512 = "The field must be at most 512 characters long.";
+    String POSITIVE_OR_ZERO = "The field must be positive or zero.";
 
 }
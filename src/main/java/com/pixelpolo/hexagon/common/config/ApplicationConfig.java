@@ -1,13 +1,30 @@
 package com.pixelpolo.hexagon.common.config;
 
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Application configuration class.
+ * Scheduling is enabled for periodic background refreshes (e.g. CategoryCountCache).
+ * The beans of the startup.lazy-packages are created on first use, they are not needed to serve requests.
  */
 @Configuration
+@EnableScheduling
 public class ApplicationConfig {
 
-    // Configuration beans can be defined here if needed in the future...
+    // Static, bean factory post-processors run before the configuration class itself is created
+    @Bean
+    static LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyBeanFactoryPostProcessor(packages);
+    }
 
 }
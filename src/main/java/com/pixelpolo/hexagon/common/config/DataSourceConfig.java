@@ -0,0 +1,50 @@
+package com.pixelpolo.hexagon.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * DataSource configuration class of the postgres profile.
+ * Read-only transactions are sent to the replicas of postgres.replicas.urls, none by default,
+ * except for the clients that have just written (ReadYourWritesFilter).
+ */
+@Configuration
+@Profile("postgres")
+public class DataSourceConfig {
+
+    // Static, bean post-processors are created before the other beans
+    @Bean
+    static ReplicaRoutingPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        Binder binder = Binder.get(environment);
+        return new ReplicaRoutingPostProcessor(
+                replicaUrls(binder),
+                binder.bind("postgres.replicas.max-lag", Duration.class).get(),
+                binder.bind("postgres.replicas.health-check-interval", Duration.class).get(),
+                binder.bind("postgres.replicas.connection-timeout", Duration.class).get());
+    }
+
+    // Read-your-writes for the clients sending cookies back, off without replicas
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(Environment environment) {
+        Binder binder = Binder.get(environment);
+        if (replicaUrls(binder).isEmpty()) {
+            return new ReadYourWritesFilter(Duration.ZERO);
+        }
+        return new ReadYourWritesFilter(binder.bind("postgres.replicas.max-lag", Duration.class).get()
+                .plus(binder.bind("postgres.replicas.health-check-interval", Duration.class).get()));
+    }
+
+    private static List<String> replicaUrls(Binder binder) {
+        return binder.bind("postgres.replicas.urls", Bindable.listOf(String.class)).orElse(List.of()).stream()
+                .filter(url -> !url.isBlank())
+                .toList();
+    }
+
+}
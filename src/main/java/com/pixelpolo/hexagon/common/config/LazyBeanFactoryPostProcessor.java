@@ -0,0 +1,49 @@
+package com.pixelpolo.hexagon.common.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Makes the beans of the given packages lazy, they are then created on first use instead of at startup.
+ * Meant for beans off the request path (e.g. springdoc), unlike spring.main.lazy-initialization
+ * which would also delay the database pools and the request handling beans to the first request.
+ * A bean explicitly declared eager or lazy is left as is.
+ */
+@RequiredArgsConstructor
+public class LazyBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition.getLazyInit() != null || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            String className = declaringClassName(definition);
+            if (className != null && packages.stream().anyMatch(className::startsWith)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    // @Bean methods have no bean class name, the class declaring the method is used instead
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+
+}
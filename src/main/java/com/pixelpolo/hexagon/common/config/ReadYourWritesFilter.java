@@ -0,0 +1,83 @@
+package com.pixelpolo.hexagon.common.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.pixelpolo.hexagon.infrastructure.postgres.datasource.ReplicaRoutingDataSource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps the reads of a client on the primary for a while after its writes, so that it reads its own writes.
+ * A write request sets a cookie holding the time until which the client is pinned, the requests carrying it
+ * (and the write itself) run pinned to the primary. The pin lasts the max replica lag plus a health check interval:
+ * a replica further behind has been ejected by then.
+ * Clients that do not send cookies back keep reading from the replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long pinMillis;
+
+    public ReadYourWritesFilter(Duration pin) {
+        this.pinMillis = pin.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Set before the chain, the response may be committed by then
+            Cookie cookie = new Cookie(COOKIE, Long.toString(now + pinMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.ceilDiv(pinMillis, 1000));
+            response.addCookie(cookie);
+        }
+        if (!write && !pinned(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (ReplicaRoutingDataSource.Pin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    // Nothing to pin without replicas
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return pinMillis <= 0;
+    }
+
+    // A pin further than one period ahead was not set by this filter and is ignored
+    private boolean pinned(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + pinMillis;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+}
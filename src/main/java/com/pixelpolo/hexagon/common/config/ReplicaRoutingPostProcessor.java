@@ -0,0 +1,54 @@
+package com.pixelpolo.hexagon.common.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.pixelpolo.hexagon.infrastructure.postgres.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Wraps the auto-configured DataSource in a ReplicaRoutingDataSource when replica URLs are set.
+ * The primary keeps its Spring Boot configuration (connection details, pool, metrics, Flyway),
+ * each replica gets a pool of the same size and credentials, read-only and with a short connection timeout.
+ * Replica pools connect on first use, a replica that is down does not prevent the startup.
+ * The routing DataSource is the dataSource bean from then on, it closes all the pools on shutdown.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingPostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final List<String> replicaUrls;
+    private final Duration maxLag;
+    private final Duration healthCheckInterval;
+    private final Duration connectionTimeout;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (replicaUrls.isEmpty() || !DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof HikariDataSource primary)) {
+            return bean;
+        }
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(primary.getPoolName() + "-replica-" + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(primary.getUsername());
+            replica.setPassword(primary.getPassword());
+            replica.setMaximumPoolSize(primary.getMaximumPoolSize());
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, healthCheckInterval);
+    }
+
+}
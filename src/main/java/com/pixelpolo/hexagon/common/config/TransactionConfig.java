@@ -0,0 +1,38 @@
+package com.pixelpolo.hexagon.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.TransactionManagementConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Transaction configuration class.
+ * R2DBC auto-configures a reactive transaction manager, the JPA one would then back off, so it is declared here.
+ * It is the default for @Transactional only, not a @Primary bean: a ReactiveTransactionManager injection point
+ * still gets the R2DBC one, and the reactive adapters run single statements without @Transactional.
+ */
+@Configuration
+public class TransactionConfig implements TransactionManagementConfigurer {
+
+    private final JpaTransactionManager transactionManager;
+
+    public TransactionConfig(EntityManagerFactory entityManagerFactory) {
+        this.transactionManager = new JpaTransactionManager(entityManagerFactory);
+        // Savepoints for PROPAGATION_NESTED (the per-item writes of a bulk update), already the JPA default
+        this.transactionManager.setNestedTransactionAllowed(true);
+    }
+
+    @Bean
+    JpaTransactionManager transactionManager() {
+        return transactionManager;
+    }
+
+    @Override
+    public TransactionManager annotationDrivenTransactionManager() {
+        return transactionManager;
+    }
+
+}
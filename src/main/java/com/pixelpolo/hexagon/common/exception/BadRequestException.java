@@ -3,7 +3,7 @@ package com.pixelpolo.hexagon.common.exception;
 /**
  * Exception thrown when a bad request is made.
  */
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends DomainException {
 
     public BadRequestException(String message) {
         super(message);
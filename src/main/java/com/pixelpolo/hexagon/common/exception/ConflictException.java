@@ -0,0 +1,12 @@
+package com.pixelpolo.hexagon.common.exception;
+
+/**
+ * Exception thrown when a write conflicts with a concurrent write of the same entity.
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+}
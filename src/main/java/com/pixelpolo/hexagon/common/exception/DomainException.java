@@ -0,0 +1,18 @@
+package com.pixelpolo.hexagon.common.exception;
+
+/**
+ * Base class of the exceptions for expected outcomes (not found, conflicts, invalid requests).
+ * They are part of the normal flow and become HTTP statuses, so they skip the stack trace:
+ * filling it walks every Spring, Hibernate and driver frame and costs more than the rest of the exception.
+ * Start the JVM with -Dhexagon.exception.stack-trace=true to get the stack traces back when debugging.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    // Read once, the JIT folds the check away
+    private static final boolean STACK_TRACE = Boolean.getBoolean("hexagon.exception.stack-trace");
+
+    protected DomainException(String message) {
+        super(message, null, false, STACK_TRACE);
+    }
+
+}
@@ -3,7 +3,7 @@ package com.pixelpolo.hexagon.common.exception;
 /**
  * Exception thrown when an entity already exists.
  */
-public class ExistException extends RuntimeException {
+public class ExistException extends DomainException {
 
     public ExistException(String message) {
         super(message);
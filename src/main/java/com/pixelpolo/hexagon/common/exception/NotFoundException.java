@@ -3,7 +3,7 @@ package com.pixelpolo.hexagon.common.exception;
 /**
  * Exception thrown when an entity is not found.
  */
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends DomainException {
 
     public NotFoundException(String message) {
         super(message);
@@ -0,0 +1,12 @@
+package com.pixelpolo.hexagon.common.exception;
+
+/**
+ * Exception thrown when a conditional write does not match the current state of an entity.
+ */
+public class PreconditionFailedException extends DomainException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.pixelpolo.hexagon.common.exception.category;
+
+import com.pixelpolo.hexagon.common.exception.ConflictException;
+
+/**
+ * Exception thrown when a category cannot be hard deleted because products still reference it.
+ */
+public class CategoryInUseException extends ConflictException {
+
+    public CategoryInUseException(long id) {
+        super("Category with ID " + id + " is still referenced by products.");
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.pixelpolo.hexagon.common.exception.category;
+
+import com.pixelpolo.hexagon.common.exception.ConflictException;
+
+/**
+ * Exception thrown when a category was modified since the version expected by the client.
+ */
+public class CategoryVersionMismatchException extends ConflictException {
+
+    public CategoryVersionMismatchException(long id, long version) {
+        super("Category with ID " + id + " is no longer at version " + version + ".");
+    }
+
+}
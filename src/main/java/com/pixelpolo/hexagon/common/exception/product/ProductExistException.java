@@ -0,0 +1,14 @@
+package com.pixelpolo.hexagon.common.exception.product;
+
+import com.pixelpolo.hexagon.common.exception.ExistException;
+
+/**
+ * Exception thrown when a product with the given name already exists.
+ */
+public class ProductExistException extends ExistException {
+
+    public ProductExistException(String name) {
+        super("Product with name '" + name + "' already exists.");
+    }
+
+}
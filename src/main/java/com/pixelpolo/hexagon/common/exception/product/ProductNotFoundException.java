@@ -0,0 +1,14 @@
+package com.pixelpolo.hexagon.common.exception.product;
+
+import com.pixelpolo.hexagon.common.exception.NotFoundException;
+
+/**
+ * Exception thrown when a product is not found.
+ */
+public class ProductNotFoundException extends NotFoundException {
+
+    public ProductNotFoundException(long id) {
+        super("Product with ID " + id + " not found.");
+    }
+
+}
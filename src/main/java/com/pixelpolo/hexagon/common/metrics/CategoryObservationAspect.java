@@ -0,0 +1,73 @@
+package com.pixelpolo.hexagon.common.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.common.exception.DomainException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Aspect observing every CategoryUseCase and CategoryPort call.
+ * Each call is recorded as an observation (a timer, and a span when tracing is enabled),
+ * tagged with the implementing class, the method and the active persistence profile.
+ * Domain exceptions leaving the use case are also counted by type.
+ * The domain layer stays free of any metrics code.
+ */
+@Aspect
+@Component
+public class CategoryObservationAspect {
+
+    public static final String USE_CASE_OBSERVATION = "category.usecase";
+    public static final String PORT_OBSERVATION = "category.port";
+    public static final String EXCEPTION_COUNTER = "category.exceptions";
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final String store;
+
+    public CategoryObservationAspect(
+            ObservationRegistry observationRegistry, MeterRegistry meterRegistry, Environment environment) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        this.store = store(environment);
+    }
+
+    @Around("execution(* com.pixelpolo.hexagon.domain.port.in.CategoryUseCase.*(..))")
+    public Object observeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return observe(USE_CASE_OBSERVATION, joinPoint);
+        } catch (DomainException e) {
+            meterRegistry.counter(EXCEPTION_COUNTER, "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        }
+    }
+
+    // Matches the cache decorator and the persistence adapter, so cache hits and store calls are told apart
+    @Around("execution(* com.pixelpolo.hexagon.domain.port.out.CategoryPort.*(..))")
+    public Object observePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(PORT_OBSERVATION, joinPoint);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        return Observation.createNotStarted(name, observationRegistry)
+                .lowCardinalityKeyValue("class", joinPoint.getTarget().getClass().getSimpleName())
+                .lowCardinalityKeyValue("method", joinPoint.getSignature().getName())
+                .lowCardinalityKeyValue("store", store)
+                .observeChecked(joinPoint::proceed);
+    }
+
+    // The store profile that selected the persistence adapters, mongo is the default one
+    private static String store(Environment environment) {
+        if (environment.matchesProfiles("postgres")) {
+            return "postgres";
+        }
+        return environment.matchesProfiles("memory") ? "memory" : "mongo";
+    }
+
+}
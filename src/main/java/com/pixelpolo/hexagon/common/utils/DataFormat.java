@@ -0,0 +1,34 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.util.Locale;
+
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Formats of the streaming exports and imports, one record per line.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DataFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    public String getExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static DataFormat from(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Format must be ndjson or csv");
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.DigestUtils;
+
+import com.pixelpolo.hexagon.common.exception.PreconditionFailedException;
+
+/**
+ * Utility class for the ETags of versioned entities.
+ * An entity ETag is strong and made of its ID and version, so it can be checked without the entity body.
+ * A list ETag is a hash of the ETags of its items and of anything else that is part of the response.
+ */
+public final class ETagUtils {
+
+    private static final Pattern ENTITY_TAG = Pattern.compile("^\"(\\d+)-(\\d+)\"$");
+
+    private ETagUtils() {
+    }
+
+    // Entities written before versioning are at version 0
+    public static String of(long id, Long version) {
+        return "\"" + id + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    public static String ofList(String content) {
+        return "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // -1 when unknown, Last-Modified is then not sent
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Version expected by an If-Match header, null if there is no header or if it matches any version.
+     * Throws PreconditionFailedException if the header cannot match the given entity.
+     */
+    public static Long expectedVersion(String ifMatch, long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Matcher matcher = ENTITY_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches() || Long.parseLong(matcher.group(1)) != id) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the entity with ID " + id + ".");
+        }
+        return Long.parseLong(matcher.group(2));
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Utility class for streaming exports.
+ * Records are written one at a time to a buffered writer on the response,
+ * so memory stays flat whatever the number of records. Gzip is applied by the server compression.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportUtils {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_LINE_END = "\r\n";
+
+    private final JsonMapper jsonMapper;
+
+    public ResponseEntity<StreamingResponseBody> buildResponse(DataFormat format, String name, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    /**
+     * Writes the records pushed by the producer, as JSON lines or as CSV rows of the given columns.
+     */
+    public <T> void write(OutputStream outputStream, DataFormat format, List<String> columns,
+                          Function<T, List<Object>> row, Consumer<Consumer<T>> producer) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == DataFormat.CSV) {
+            writeCsvLine(writer, columns);
+        }
+        try {
+            producer.accept(record -> {
+                try {
+                    if (format == DataFormat.CSV) {
+                        writeCsvLine(writer, row.apply(record));
+                    } else {
+                        writer.write(jsonMapper.writeValueAsString(record));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away, the cursor is already closed by the producer
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write(CSV_LINE_END);
+    }
+
+    // RFC 4180, values holding a separator, a quote or a line break are quoted and quotes are doubled
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+}
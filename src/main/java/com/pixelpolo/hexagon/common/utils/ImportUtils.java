@@ -0,0 +1,169 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Utility class for streaming imports.
+ * The body is parsed one record at a time and handed over in chunks to a writer running on virtual threads.
+ * At most maxInFlight chunks are written concurrently, reading waits for a free slot:
+ * memory is bounded by the chunks in flight and a fast upload is held back by the database.
+ * CSV rows are bound by column name, with the same rules as a JSON record.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportUtils {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * A parsed record and its position in the body, the value is null if the record is malformed.
+     */
+    public record Row<T>(int index, T value, String error) {
+    }
+
+    /**
+     * Reads the records and returns once every chunk has been written.
+     * The first writer failure stops the reading and is thrown.
+     */
+    public <T> void read(InputStream inputStream, DataFormat format, Class<T> type,
+                         int chunkSize, int maxInFlight, Consumer<List<Row<T>>> writer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Semaphore slots = new Semaphore(maxInFlight);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        // Closing the executor waits for the chunks in flight
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<String> columns = format == DataFormat.CSV ? readCsvRecord(reader) : null;
+            List<Row<T>> chunk = new ArrayList<>(chunkSize);
+            int index = 0;
+            Row<T> row;
+            while (failure.get() == null && (row = readRow(reader, format, columns, type, index)) != null) {
+                if (row.index() < 0) {
+                    continue;
+                }
+                chunk.add(row);
+                index++;
+                if (chunk.size() == chunkSize) {
+                    submit(executor, slots, failure, chunk, writer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty() && failure.get() == null) {
+                submit(executor, slots, failure, chunk, writer);
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private <T> void submit(ExecutorService executor, Semaphore slots, AtomicReference<RuntimeException> failure,
+                            List<Row<T>> chunk, Consumer<List<Row<T>>> writer) {
+        slots.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                writer.accept(chunk);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    // Null at the end of the body, a negative index for a blank line
+    private <T> Row<T> readRow(BufferedReader reader, DataFormat format, List<String> columns, Class<T> type, int index)
+            throws IOException {
+        if (format == DataFormat.NDJSON) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            if (line.isBlank()) {
+                return new Row<>(-1, null, null);
+            }
+            try {
+                return new Row<>(index, jsonMapper.readValue(line, type), null);
+            } catch (JacksonException e) {
+                return new Row<>(index, null, "Malformed record: " + e.getOriginalMessage());
+            }
+        }
+
+        List<String> values = readCsvRecord(reader);
+        if (values == null) {
+            return null;
+        }
+        if (values.size() == 1 && values.getFirst().isEmpty()) {
+            return new Row<>(-1, null, null);
+        }
+        if (columns == null || values.size() != columns.size()) {
+            return new Row<>(index, null, "Malformed record: expected " + (columns == null ? 0 : columns.size()) + " values");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            fields.put(columns.get(i), values.get(i));
+        }
+        try {
+            return new Row<>(index, jsonMapper.convertValue(fields, type), null);
+        } catch (JacksonException | IllegalArgumentException e) {
+            return new Row<>(index, null, "Malformed record: " + e.getMessage());
+        }
+    }
+
+    // RFC 4180, a quoted value may hold separators, doubled quotes and line breaks
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+}
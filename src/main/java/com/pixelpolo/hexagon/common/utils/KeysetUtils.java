@@ -0,0 +1,55 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+
+/**
+ * Utility class for hand-written keyset queries on a single numeric key.
+ * Queries read one extra row (size + 1) to know if there is a next window without counting.
+ */
+public class KeysetUtils {
+
+    private KeysetUtils() {
+    }
+
+    // The key of the last item of the previous window, 0 for the first window
+    public static long after(KeysetScrollPosition position, String key) {
+        if (position.isInitial()) {
+            return 0;
+        }
+        if (!(position.getKeys().get(key) instanceof Number value)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return value.longValue();
+    }
+
+    // A cursor only fits the sort it was issued for: it holds a key for each sort property and the ID
+    public static void requireKeys(KeysetScrollPosition position, Sort sort, String key) {
+        if (position.isInitial()) {
+            return;
+        }
+        Set<String> expected = new HashSet<>();
+        sort.forEach(order -> expected.add(order.getProperty()));
+        expected.add(key);
+        if (!expected.equals(position.getKeys().keySet()) || !(position.getKeys().get(key) instanceof Number)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static <T> Window<T> toWindow(List<T> items, int size, String key, Function<T, Long> keyExtractor) {
+        boolean hasNext = items.size() > size;
+        List<T> content = hasNext ? items.subList(0, size) : items;
+        return Window.from(content, i -> ScrollPosition.forward(Map.of(key, keyExtractor.apply(content.get(i)))), hasNext);
+    }
+
+}
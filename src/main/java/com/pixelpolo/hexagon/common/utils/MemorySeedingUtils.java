@@ -0,0 +1,60 @@
+package com.pixelpolo.hexagon.common.utils;
+
+import java.util.List;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.ProductAdapterMemory;
+
+/**
+ * Seeds the memory profile with the same categories and products as the databases.
+ * The stores are cleared first, IDs then follow the insertion order from 1.
+ */
+public class MemorySeedingUtils {
+
+    private MemorySeedingUtils() {
+    }
+
+    // --- CATEGORIES ---
+
+    private static final List<String> CATEGORIES = List.of(
+            "Mobilité",
+            "Logement",
+            "Prévoyance et hypothèque",
+            "Assistance et Voyage",
+            "Services",
+            "Protection des personnes",
+            "Protection des biens",
+            "Protection de l'activité",
+            "Assistance & services");
+
+    // --- PRODUCTS ---
+    // All in the first category (Mobilité)
+
+    private static final String VEHICLE_COVERAGE =
+            "Responsabilité civile, casco partielle ou collision, occupants et protection juridique";
+
+    private static final List<List<String>> PRODUCTS = List.of(
+            List.of("Assurance voiture", VEHICLE_COVERAGE),
+            List.of("Assurance moto et scooter", VEHICLE_COVERAGE),
+            List.of("Assurance oldtimer", VEHICLE_COVERAGE),
+            List.of("Assurance camping-car", VEHICLE_COVERAGE),
+            List.of("Assurance bateau", VEHICLE_COVERAGE),
+            List.of("Assurancce vélo e-bike", "Protection complète et frais de transport"),
+            List.of("Protection juridique circulation",
+                    "Orion, défense pénale, droit des dommages et intérêt, "
+                            + "droit des contrats relatifs à un véhicule et retrait de permis"));
+
+    // --- SEED ---
+
+    public static void seed(CategoryAdapterMemory categoryAdapter, ProductAdapterMemory productAdapter) {
+        productAdapter.clear();
+        categoryAdapter.clear();
+        CATEGORIES.forEach(name -> categoryAdapter.insert(Category.builder().name(name).build()));
+        Category mobility = categoryAdapter.findById(1).orElseThrow();
+        PRODUCTS.forEach(product -> productAdapter.insert(
+                Product.builder().category(mobility).name(product.get(0)).description(product.get(1)).build()));
+    }
+
+}
@@ -1,8 +1,20 @@
 package com.pixelpolo.hexagon.common.utils;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
 
 public class MongoSeedingUtils {
 
@@ -35,18 +47,84 @@ public class MongoSeedingUtils {
     private static final CategoryEntityMongo ASSISTANCE_AND_SERVICES = CategoryEntityMongo.builder()
             .categoryId(9L).name("Assistance & services").build();
 
+    // --- PRODUCTS ---
+
+    private static final String VEHICLE_COVERAGE =
+            "Responsabilité civile, casco partielle ou collision, occupants et protection juridique";
+
+    private static final ProductEntityMongo CAR = ProductEntityMongo.builder()
+            .productId(1L).categoryId(1L).name("Assurance voiture").description(VEHICLE_COVERAGE).build();
+
+    private static final ProductEntityMongo MOTORBIKE = ProductEntityMongo.builder()
+            .productId(2L).categoryId(1L).name("Assurance moto et scooter").description(VEHICLE_COVERAGE).build();
+
+    private static final ProductEntityMongo OLDTIMER = ProductEntityMongo.builder()
+            .productId(3L).categoryId(1L).name("Assurance oldtimer").description(VEHICLE_COVERAGE).build();
+
+    private static final ProductEntityMongo CAMPER = ProductEntityMongo.builder()
+            .productId(4L).categoryId(1L).name("Assurance camping-car").description(VEHICLE_COVERAGE).build();
+
+    private static final ProductEntityMongo BOAT = ProductEntityMongo.builder()
+            .productId(5L).categoryId(1L).name("Assurance bateau").description(VEHICLE_COVERAGE).build();
+
+    private static final ProductEntityMongo BIKE = ProductEntityMongo.builder()
+            .productId(6L).categoryId(1L).name("Assurancce vélo e-bike")
+            .description("Protection complète et frais de transport").build();
+
+    private static final ProductEntityMongo TRAFFIC_LEGAL_PROTECTION = ProductEntityMongo.builder()
+            .productId(7L).categoryId(1L).name("Protection juridique circulation")
+            .description("Orion, défense pénale, droit des dommages et intérêt, "
+                                 + "droit des contrats relatifs à un véhicule et retrait de permis").build();
+
     // --- SEED ---
 
     public static void seedCategories(MongoTemplate mongoTemplate) {
-        mongoTemplate.save(MOBILITY);
-        mongoTemplate.save(LODGEMENT);
-        mongoTemplate.save(PROVIDENT_AND_MORTGAGE);
-        mongoTemplate.save(ASSISTANCE_AND_TRAVEL);
-        mongoTemplate.save(SERVICES);
-        mongoTemplate.save(PERSONAL_PROTECTION);
-        mongoTemplate.save(PROPERTY_PROTECTION);
-        mongoTemplate.save(ACTIVITY_PROTECTION);
-        mongoTemplate.save(ASSISTANCE_AND_SERVICES);
+        // Indexes are dropped with the collection, the unique name index is required for single-write inserts
+        // Named as the auto-created index, creating it again is then a no-op
+        IndexOperations indexOps = mongoTemplate.indexOps(CategoryEntityMongo.class);
+        indexOps.createIndex(new Index().on("name", Sort.Direction.ASC).unique().named(CategoryEntityMongo.NAME_INDEX)
+                                     .partial(PartialIndexFilter.of(Criteria.where("deletionDate").isNull())));
+        // The global unique name index of earlier versions would still reject the names of deleted categories
+        if (indexOps.getIndexInfo().stream().anyMatch(index -> index.getName().equals("name"))) {
+            indexOps.dropIndex("name");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (CategoryEntityMongo category : List.of(MOBILITY, LODGEMENT, PROVIDENT_AND_MORTGAGE, ASSISTANCE_AND_TRAVEL,
+                                                    SERVICES, PERSONAL_PROTECTION, PROPERTY_PROTECTION,
+                                                    ACTIVITY_PROTECTION, ASSISTANCE_AND_SERVICES)) {
+            insertIfAbsent(mongoTemplate, category.getCategoryId(), new Update()
+                    .setOnInsert("name", category.getName())
+                    .setOnInsert("version", 0L)
+                    .setOnInsert("updatedAt", now), CategoryEntityMongo.class);
+        }
+    }
+
+    public static void seedProducts(MongoTemplate mongoTemplate) {
+        // Same as categories, the listing by category also needs its compound index
+        mongoTemplate.indexOps(ProductEntityMongo.class)
+                .createIndex(new Index().on("name", Sort.Direction.ASC).unique().named("name"));
+        mongoTemplate.indexOps(ProductEntityMongo.class)
+                .createIndex(new Index().on("categoryId", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                                     .named("categoryId_id"));
+        LocalDateTime now = LocalDateTime.now();
+        for (ProductEntityMongo product : List.of(CAR, MOTORBIKE, OLDTIMER, CAMPER, BOAT, BIKE, TRAFFIC_LEGAL_PROTECTION)) {
+            insertIfAbsent(mongoTemplate, product.getProductId(), new Update()
+                    .setOnInsert("categoryId", product.getCategoryId())
+                    .setOnInsert("name", product.getName())
+                    .setOnInsert("description", product.getDescription())
+                    .setOnInsert("createdAt", now)
+                    .setOnInsert("updatedAt", now), ProductEntityMongo.class);
+        }
+    }
+
+    // Seeds run on every startup: a stored seed is left as it is, with the changes and the version it has since,
+    // a missing one is inserted unless its name was taken by another document in the meantime
+    private static void insertIfAbsent(MongoTemplate mongoTemplate, long id, Update seed, Class<?> entityClass) {
+        try {
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(id)), seed, entityClass);
+        } catch (DuplicateKeyException e) {
+            // Name taken, the seed is not inserted again
+        }
     }
 
 }
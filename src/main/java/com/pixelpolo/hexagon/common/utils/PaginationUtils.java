@@ -1,17 +1,37 @@
 package com.pixelpolo.hexagon.common.utils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
 import com.pixelpolo.hexagon.common.exception.BadRequestException;
 
 /**
  * Utility class for building pagination and sorting requests.
+ * Offset pagination uses a PageRequest, cursor pagination uses a KeysetScrollPosition
+ * encoded as an opaque Base64 URL-safe cursor.
  */
 @Component
 public class PaginationUtils {
 
+    private static final String INVALID_CURSOR = "Invalid cursor";
+
     public PageRequest buildPageRequest(int page, int size, String sortBy, String sortDir) {
         if (page < 0 || size <= 0) {
             throw new BadRequestException("Page must be >= 0 and size > 0");
@@ -19,7 +39,7 @@ public class PaginationUtils {
         return PageRequest.of(page, size, buildSort(sortBy, sortDir));
     }
 
-    private Sort buildSort(String sortBy, String sortDir) {
+    public Sort buildSort(String sortBy, String sortDir) {
         // If weird values like "desccc" -> fallback to "asc"
         if ("desc".equalsIgnoreCase(sortDir)) {
             return Sort.by(sortBy).descending();
@@ -28,4 +48,90 @@ public class PaginationUtils {
         }
     }
 
-}
\ No newline at end of file
+    // An empty cursor starts from the beginning
+    public KeysetScrollPosition buildScrollPosition(String cursor, int size) {
+        if (size <= 0) {
+            throw new BadRequestException("Size must be > 0");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            int count = in.readUnsignedByte();
+            Map<String, Object> keys = new LinkedHashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                keys.put(in.readUTF(), readKey(in));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeException | IOException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    // Same, for a cursor issued with the given sort on a keyset ending with the ID key
+    public KeysetScrollPosition buildScrollPosition(String cursor, int size, Sort sort, String key) {
+        KeysetScrollPosition position = buildScrollPosition(cursor, size);
+        KeysetUtils.requireKeys(position, sort, key);
+        return position;
+    }
+
+    // Null when there is no next window
+    public String buildNextCursor(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()
+                || !(window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position)) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(position.getKeys().size());
+            for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+                out.writeUTF(key.getKey());
+                writeKey(out, key.getKey(), key.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    // Keys are type-tagged so that the seek predicate compares values of the right type
+    private void writeKey(DataOutputStream out, String name, Object value) throws IOException {
+        switch (value) {
+            case null -> out.writeByte('N');
+            case Long l -> {
+                out.writeByte('L');
+                out.writeLong(l);
+            }
+            case Integer i -> {
+                out.writeByte('I');
+                out.writeInt(i);
+            }
+            case String s -> {
+                out.writeByte('S');
+                out.writeUTF(s);
+            }
+            case LocalDateTime t -> {
+                out.writeByte('T');
+                out.writeUTF(t.toString());
+            }
+            case Date d -> {
+                out.writeByte('D');
+                out.writeLong(d.getTime());
+            }
+            default -> throw new BadRequestException("Sort key '" + name + "' is not supported in cursor mode");
+        }
+    }
+
+    private Object readKey(DataInputStream in) throws IOException {
+        return switch (in.readUnsignedByte()) {
+            case 'N' -> null;
+            case 'L' -> in.readLong();
+            case 'I' -> in.readInt();
+            case 'S' -> in.readUTF();
+            case 'T' -> LocalDateTime.parse(in.readUTF());
+            case 'D' -> new Date(in.readLong());
+            default -> throw new BadRequestException(INVALID_CURSOR);
+        };
+    }
+
+}
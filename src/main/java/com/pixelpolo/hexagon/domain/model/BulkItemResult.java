@@ -0,0 +1,41 @@
+package com.pixelpolo.hexagon.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Result of one item of a bulk operation on categories.
+ * Results are returned in the order of the requested items.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@Builder
+public class BulkItemResult {
+
+    public enum Status { CREATED, UPDATED, DELETED, NOT_FOUND, CONFLICT, INVALID }
+
+    private Status status;
+
+    private Long categoryId;
+
+    @ToString.Exclude
+    private Category category;
+
+    private String error;
+
+    public static BulkItemResult success(Status status, Category category) {
+        return new BulkItemResult(status, category.getCategoryId(), category, null);
+    }
+
+    public static BulkItemResult deleted(Long categoryId) {
+        return new BulkItemResult(Status.DELETED, categoryId, null, null);
+    }
+
+    public static BulkItemResult failure(Status status, Long categoryId, String error) {
+        return new BulkItemResult(status, categoryId, null, error);
+    }
+
+}
@@ -24,6 +24,9 @@ public class Category {
     private Long categoryId;
     private String name;
     private LocalDateTime deletionDate;
+    // Incremented by every write, with the last write time
+    private Long version;
+    private LocalDateTime updatedAt;
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,33 @@
+package com.pixelpolo.hexagon.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Result of one item of a bulk creation of products, with the statuses of BulkItemResult.
+ * Results are returned in the order of the requested items.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProductBulkItemResult {
+
+    private BulkItemResult.Status status;
+
+    private Long productId;
+
+    @ToString.Exclude
+    private Product product;
+
+    private String error;
+
+    public static ProductBulkItemResult created(Product product) {
+        return new ProductBulkItemResult(BulkItemResult.Status.CREATED, product.getProductId(), product, null);
+    }
+
+    public static ProductBulkItemResult failure(BulkItemResult.Status status, String error) {
+        return new ProductBulkItemResult(status, null, null, error);
+    }
+
+}
@@ -1,8 +1,16 @@
 package com.pixelpolo.hexagon.domain.port.in;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
 import com.pixelpolo.hexagon.domain.model.Category;
 
 /**
@@ -15,10 +23,32 @@ public interface CategoryUseCase {
 
     Category update(long id, Category category);
 
+    List<BulkItemResult> createAll(List<Category> categories);
+
+    List<BulkItemResult> updateAll(List<Category> categories);
+
+    List<BulkItemResult> softDeleteAll(List<Long> ids);
+
+    List<BulkItemResult> hardDeleteAll(List<Long> ids);
+
     Page<Category> getAll(Pageable pageable);
 
     Page<Category> getAllDeleted(Pageable pageable);
 
+    Slice<Category> getSlice(Pageable pageable);
+
+    Slice<Category> getDeletedSlice(Pageable pageable);
+
+    long count();
+
+    long countDeleted();
+
+    Window<Category> getAll(KeysetScrollPosition position, Sort sort, int size);
+
+    Window<Category> getAllDeleted(KeysetScrollPosition position, Sort sort, int size);
+
+    void exportAll(Consumer<Category> action);
+
     Category getById(long id);
 
     void softDelete(long id);
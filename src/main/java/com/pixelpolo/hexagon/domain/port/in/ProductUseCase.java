@@ -0,0 +1,33 @@
+package com.pixelpolo.hexagon.domain.port.in;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.model.ProductBulkItemResult;
+
+/**
+ * Use case interface for Product operations.
+ */
+public interface ProductUseCase {
+
+    Product create(Product product);
+
+    Product update(long id, Product product);
+
+    List<ProductBulkItemResult> createAll(List<Product> products);
+
+    Window<Product> getAll(Long categoryId, KeysetScrollPosition position, int size);
+
+    void exportAll(Consumer<Product> action);
+
+    Product getById(long id);
+
+    void softDelete(long id);
+
+    void hardDelete(long id);
+
+}
@@ -0,0 +1,42 @@
+package com.pixelpolo.hexagon.domain.port.in;
+
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Category PORT IN interface.
+ * Defines the category use cases served by the reactive stack.
+ */
+public interface ReactiveCategoryUseCase {
+
+    Mono<Category> create(Category category);
+
+    Mono<Category> update(long id, Category category);
+
+    Mono<List<BulkItemResult>> createAll(List<Category> categories);
+
+    Mono<List<BulkItemResult>> softDeleteAll(List<Long> ids);
+
+    Mono<List<BulkItemResult>> hardDeleteAll(List<Long> ids);
+
+    Mono<Window<Category>> getAll(KeysetScrollPosition position, int size);
+
+    Flux<Category> exportAll();
+
+    Mono<Long> count();
+
+    Mono<Category> getById(long id);
+
+    Mono<Void> softDelete(long id);
+
+    Mono<Void> hardDelete(long id);
+
+}
@@ -1,7 +1,16 @@
 package com.pixelpolo.hexagon.domain.port.out;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.pixelpolo.hexagon.domain.model.Category;
 
@@ -13,13 +22,91 @@ public interface CategoryPort {
 
     Category save(Category category);
 
+    /**
+     * Inserts a new category in a single write, relying on the unique name constraint.
+     * Throws CategoryExistException if the name is already taken.
+     */
+    Category insert(Category category);
+
+    /**
+     * Renames an existing category in a single write, relying on the unique name constraint.
+     * If the category holds a version, the write only applies to that version of the category.
+     * Throws CategoryNotFoundException if the category does not exist,
+     * CategoryVersionMismatchException if it is at another version
+     * and CategoryExistException if the name is already taken by another category.
+     */
+    Category update(long id, Category category);
+
+    // Bulk operations, one write for the whole batch, each returns the items that were actually written
+
+    /**
+     * Inserts the categories whose name is not taken yet, the others are skipped.
+     */
+    List<Category> insertAll(List<Category> categories);
+
+    /**
+     * Renames the existing categories whose new name is free, the others are skipped.
+     * May return no category at all if a name is taken concurrently.
+     */
+    List<Category> updateAll(List<Category> categories);
+
+    List<Long> softDeleteAll(List<Long> ids);
+
+    /**
+     * Removes the categories that no product references, the referenced ones are skipped.
+     */
+    List<Long> hardDeleteAll(List<Long> ids);
+
+    /**
+     * Returns the given IDs that are still referenced by products, empty if the store does not enforce references.
+     */
+    List<Long> findReferencedIds(List<Long> ids);
+
     Page<Category> findAll(Pageable pageable);
 
     Page<Category> findAllDeleted(Pageable pageable);
 
-    Category findById(long id);
+    // Slices skip the count query run by pages
+    Slice<Category> findSlice(Pageable pageable);
+
+    Slice<Category> findDeletedSlice(Pageable pageable);
+
+    long count();
+
+    long countDeleted();
+
+    // Keyset pagination, seeks on the sort keys plus the categoryId tiebreak
+    Window<Category> findAll(KeysetScrollPosition position, Sort sort, int size);
+
+    Window<Category> findAllDeleted(KeysetScrollPosition position, Sort sort, int size);
+
+    /**
+     * Streams the live categories ordered by ID through a server-side cursor, one at a time.
+     * Memory stays flat whatever the number of categories, the cursor is closed once the last one is consumed.
+     */
+    void streamAll(Consumer<Category> action);
+
+    // Lookups of live categories, a miss is an expected result and is left to the caller, not thrown
+
+    Optional<Category> findById(long id);
+
+    Optional<Category> findByName(String name);
+
+    /**
+     * Reads the live category from the store itself, never from a cache in front of it.
+     * Used where a stale copy is not acceptable, e.g. to validate the ETag of a client.
+     */
+    default Optional<Category> findCurrentById(long id) {
+        return findById(id);
+    }
 
-    Category findByName(String name);
+    /**
+     * Runs the given work as one unit, in a single transaction for a transactional store.
+     * A write of this port failing inside it is rolled back alone, the other writes are kept.
+     */
+    default <T> T inTransaction(Supplier<T> work) {
+        return work.get();
+    }
 
     void softDelete(long id);
 
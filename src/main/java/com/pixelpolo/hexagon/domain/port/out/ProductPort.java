@@ -0,0 +1,39 @@
+package com.pixelpolo.hexagon.domain.port.out;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.domain.model.Product;
+
+/**
+ * Port interface for Product persistence operations.
+ * Products are returned with their category, lists only hold the summary fields
+ * (ID, name and category) and are ordered by ID for keyset pagination.
+ */
+public interface ProductPort {
+
+    // Single write, throws ProductExistException if the name is taken
+    Product insert(Product product);
+
+    // Single write, throws ProductNotFoundException or ProductExistException
+    Product update(long id, Product product);
+
+    // One write for the whole batch, products whose name is taken are skipped and only the inserted ones are returned
+    List<Product> insertAll(List<Product> products);
+
+    // Optionally filtered by category, a null categoryId returns all products
+    Window<Product> findAll(Long categoryId, KeysetScrollPosition position, int size);
+
+    // Live products with their category, ordered by ID through a server-side cursor
+    void streamAll(Consumer<Product> action);
+
+    Product findById(long id);
+
+    void softDelete(long id);
+
+    void hardDelete(long id);
+
+}
@@ -0,0 +1,59 @@
+package com.pixelpolo.hexagon.domain.port.out;
+
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Category PORT OUT interface.
+ * Same contract as CategoryPort, with non-blocking drivers: errors are signalled instead of thrown.
+ */
+public interface ReactiveCategoryPort {
+
+    /**
+     * Inserts a new category in a single write, signals CategoryExistException if the name is already taken.
+     */
+    Mono<Category> insert(Category category);
+
+    /**
+     * Renames an existing category in a single write, only at its version if the category holds one.
+     * Signals CategoryNotFoundException, CategoryVersionMismatchException or CategoryExistException.
+     */
+    Mono<Category> update(long id, Category category);
+
+    // Bulk operations, one write for the whole batch, each emits the items that were actually written
+
+    Flux<Category> insertAll(List<Category> categories);
+
+    Flux<Long> softDeleteAll(List<Long> ids);
+
+    // Categories still referenced by products are skipped
+    Flux<Long> hardDeleteAll(List<Long> ids);
+
+    // Emits the given IDs that are still referenced by products, none if the store does not enforce references
+    Flux<Long> findReferencedIds(List<Long> ids);
+
+    // Keyset pagination on the categoryId
+    Mono<Window<Category>> findAll(KeysetScrollPosition position, int size);
+
+    /**
+     * Emits the live categories ordered by ID, pulled from the driver on demand.
+     */
+    Flux<Category> streamAll();
+
+    // Completes empty when the category does not exist
+    Mono<Category> findById(long id);
+
+    Mono<Void> softDelete(long id);
+
+    Mono<Void> hardDelete(long id);
+
+    Mono<Long> count();
+
+}
@@ -0,0 +1,75 @@
+package com.pixelpolo.hexagon.domain.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryInUseException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+
+/**
+ * Domain rules of the bulk operations on categories, shared by CategoryService and ReactiveCategoryService.
+ * The distinct items are written in one batch, then every requested item gets a result in the requested order.
+ */
+final class CategoryBulkRules {
+
+    private CategoryBulkRules() {
+    }
+
+    // Only the first occurrence of a name is inserted, the others are conflicts
+    static List<Category> distinctNames(List<Category> categories) {
+        Set<String> names = new HashSet<>();
+        return categories.stream().filter(c -> names.add(c.getName())).toList();
+    }
+
+    // Only the first occurrence of an ID is in the batch write
+    static List<Category> distinctIds(List<Category> categories) {
+        Set<Long> ids = new HashSet<>();
+        return categories.stream().filter(c -> ids.add(c.getCategoryId())).toList();
+    }
+
+    static List<BulkItemResult> toCreateResults(List<Category> categories, List<Category> insertedCategories) {
+        Map<String, Category> inserted = new HashMap<>();
+        insertedCategories.forEach(c -> inserted.put(c.getName(), c));
+        List<BulkItemResult> results = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            Category created = inserted.remove(category.getName());
+            results.add(created != null
+                                ? BulkItemResult.success(BulkItemResult.Status.CREATED, created)
+                                : BulkItemResult.failure(BulkItemResult.Status.CONFLICT, null,
+                                                         new CategoryExistException(category.getName()).getMessage()));
+        }
+        return results;
+    }
+
+    // A repeated ID is only deleted once, the next occurrences are not found
+    static List<BulkItemResult> toDeleteResults(List<Long> ids, List<Long> deletedIds) {
+        return toDeleteResults(ids, deletedIds, List.of());
+    }
+
+    // IDs skipped because products still reference them are conflicts rather than not found
+    static List<BulkItemResult> toDeleteResults(List<Long> ids, List<Long> deletedIds, List<Long> referencedIds) {
+        Set<Long> deleted = new HashSet<>(deletedIds);
+        Set<Long> referenced = new HashSet<>(referencedIds);
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (deleted.remove(id)) {
+                results.add(BulkItemResult.deleted(id));
+            } else if (referenced.contains(id)) {
+                results.add(BulkItemResult.failure(BulkItemResult.Status.CONFLICT, id,
+                                                   new CategoryInUseException(id).getMessage()));
+            } else {
+                results.add(BulkItemResult.failure(BulkItemResult.Status.NOT_FOUND, id,
+                                                   new CategoryNotFoundException(id).getMessage()));
+            }
+        }
+        return results;
+    }
+
+}
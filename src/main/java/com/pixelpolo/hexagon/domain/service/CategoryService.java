@@ -1,11 +1,22 @@
 package com.pixelpolo.hexagon.domain.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
 import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.domain.port.in.CategoryUseCase;
 import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
@@ -26,24 +37,41 @@ public class CategoryService implements CategoryUseCase {
 
     @Override
     public Category create(Category category) {
-        try {
-            categoryPort.findByName(category.getName());
-            throw new CategoryExistException(category.getName());
-        } catch (CategoryNotFoundException e) {
-            return categoryPort.save(category);
-        }
+        // Single write, the unique name constraint is checked by the persistence layer
+        return categoryPort.insert(category);
     }
 
     @Override
     public Category update(long id, Category request) {
-        try {
-            categoryPort.findByName(request.getName());
-            throw new CategoryExistException(request.getName());
-        } catch (CategoryNotFoundException e) {
-            Category existing = categoryPort.findById(id);
-            existing.setName(request.getName());
-            return categoryPort.save(existing);
-        }
+        // Single write, existence and uniqueness are checked by the persistence layer
+        return categoryPort.update(id, request);
+    }
+
+    @Override
+    public List<BulkItemResult> createAll(List<Category> categories) {
+        List<Category> unique = CategoryBulkRules.distinctNames(categories);
+        return CategoryBulkRules.toCreateResults(categories, unique.isEmpty() ? List.of() : categoryPort.insertAll(unique));
+    }
+
+    @Override
+    public List<BulkItemResult> updateAll(List<Category> categories) {
+        // The batch write and its retries are one transaction, each failed write is rolled back alone
+        return categoryPort.inTransaction(() -> updateEach(categories));
+    }
+
+    @Override
+    public List<BulkItemResult> softDeleteAll(List<Long> ids) {
+        List<Long> unique = ids.stream().distinct().toList();
+        return CategoryBulkRules.toDeleteResults(ids, unique.isEmpty() ? List.of() : categoryPort.softDeleteAll(unique));
+    }
+
+    @Override
+    public List<BulkItemResult> hardDeleteAll(List<Long> ids) {
+        List<Long> unique = ids.stream().distinct().toList();
+        List<Long> deleted = unique.isEmpty() ? List.of() : categoryPort.hardDeleteAll(unique);
+        // Only looked up when some IDs were skipped, to tell referenced categories from missing ones
+        List<Long> referenced = deleted.size() < unique.size() ? categoryPort.findReferencedIds(unique) : List.of();
+        return CategoryBulkRules.toDeleteResults(ids, deleted, referenced);
     }
 
     @Override
@@ -56,9 +84,45 @@ public class CategoryService implements CategoryUseCase {
         return categoryPort.findAllDeleted(pageable);
     }
 
+    @Override
+    public Slice<Category> getSlice(Pageable pageable) {
+        return categoryPort.findSlice(pageable);
+    }
+
+    @Override
+    public Slice<Category> getDeletedSlice(Pageable pageable) {
+        return categoryPort.findDeletedSlice(pageable);
+    }
+
+    @Override
+    public long count() {
+        return categoryPort.count();
+    }
+
+    @Override
+    public long countDeleted() {
+        return categoryPort.countDeleted();
+    }
+
+    @Override
+    public Window<Category> getAll(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryPort.findAll(position, sort, size);
+    }
+
+    @Override
+    public Window<Category> getAllDeleted(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryPort.findAllDeleted(position, sort, size);
+    }
+
+    @Override
+    public void exportAll(Consumer<Category> action) {
+        categoryPort.streamAll(action);
+    }
+
     @Override
     public Category getById(long id) {
-        return categoryPort.findById(id);
+        // The caller builds the ETag of the category from it, a cached copy may be stale
+        return categoryPort.findCurrentById(id).orElseThrow(() -> new CategoryNotFoundException(id));
     }
 
     @Override
@@ -71,4 +135,31 @@ public class CategoryService implements CategoryUseCase {
         categoryPort.hardDelete(id);
     }
 
+    private List<BulkItemResult> updateEach(List<Category> categories) {
+        List<Category> unique = CategoryBulkRules.distinctIds(categories);
+        Map<Long, Category> updated = new HashMap<>();
+        if (!unique.isEmpty()) {
+            categoryPort.updateAll(unique).forEach(c -> updated.put(c.getCategoryId(), c));
+        }
+
+        // Items missing from the batch write are retried one by one to report why they failed
+        List<BulkItemResult> results = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            Category batched = updated.remove(category.getCategoryId());
+            if (batched != null && batched.getName().equals(category.getName())) {
+                results.add(BulkItemResult.success(BulkItemResult.Status.UPDATED, batched));
+                continue;
+            }
+            try {
+                results.add(BulkItemResult.success(BulkItemResult.Status.UPDATED,
+                                                   categoryPort.update(category.getCategoryId(), category)));
+            } catch (CategoryNotFoundException e) {
+                results.add(BulkItemResult.failure(BulkItemResult.Status.NOT_FOUND, category.getCategoryId(), e.getMessage()));
+            } catch (CategoryExistException e) {
+                results.add(BulkItemResult.failure(BulkItemResult.Status.CONFLICT, category.getCategoryId(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
 }
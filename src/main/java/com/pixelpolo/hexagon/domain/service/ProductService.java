@@ -0,0 +1,123 @@
+package com.pixelpolo.hexagon.domain.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.product.ProductExistException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.model.ProductBulkItemResult;
+import com.pixelpolo.hexagon.domain.port.in.ProductUseCase;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+import com.pixelpolo.hexagon.domain.port.out.ProductPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service class implementing the ProductUseCase interface.
+ * Contains the business logic for managing products.
+ * A product always belongs to an existing category, which is resolved through the CategoryPort
+ * (served by the category cache when enabled) before writing.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductService implements ProductUseCase {
+
+    private final ProductPort productPort;
+    private final CategoryPort categoryPort;
+
+    @Override
+    public Product create(Product product) {
+        product.setCategory(resolveCategory(product));
+        return productPort.insert(product);
+    }
+
+    @Override
+    public Product update(long id, Product product) {
+        product.setCategory(resolveCategory(product));
+        return productPort.update(id, product);
+    }
+
+    // Each category is resolved once for the batch, products of an unknown category are not found
+    // and only the first occurrence of a name is inserted, the others are conflicts
+    @Override
+    public List<ProductBulkItemResult> createAll(List<Product> products) {
+        Map<Long, Optional<Category>> categories = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        List<Product> batch = new ArrayList<>(products.size());
+        for (Product product : products) {
+            Optional<Category> category = categories.computeIfAbsent(
+                    product.getCategory().getCategoryId(), categoryPort::findById);
+            if (category.isPresent() && names.add(product.getName())) {
+                product.setCategory(category.get());
+                batch.add(product);
+            }
+        }
+        Map<String, Product> inserted = new HashMap<>();
+        if (!batch.isEmpty()) {
+            productPort.insertAll(batch).forEach(p -> inserted.put(p.getName(), p));
+        }
+
+        List<ProductBulkItemResult> results = new ArrayList<>(products.size());
+        for (Product product : products) {
+            long categoryId = product.getCategory().getCategoryId();
+            if (categories.get(categoryId).isEmpty()) {
+                results.add(ProductBulkItemResult.failure(BulkItemResult.Status.NOT_FOUND,
+                                                          new CategoryNotFoundException(categoryId).getMessage()));
+                continue;
+            }
+            Product created = inserted.remove(product.getName());
+            if (created != null) {
+                results.add(ProductBulkItemResult.created(created));
+            } else {
+                results.add(ProductBulkItemResult.failure(BulkItemResult.Status.CONFLICT,
+                                                          new ProductExistException(product.getName()).getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Window<Product> getAll(Long categoryId, KeysetScrollPosition position, int size) {
+        return productPort.findAll(categoryId, position, size);
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        productPort.streamAll(action);
+    }
+
+    @Override
+    public Product getById(long id) {
+        return productPort.findById(id);
+    }
+
+    @Override
+    public void softDelete(long id) {
+        productPort.softDelete(id);
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        productPort.hardDelete(id);
+    }
+
+    // Throws CategoryNotFoundException for an unknown or deleted category
+    private Category resolveCategory(Product product) {
+        long categoryId = product.getCategory().getCategoryId();
+        return categoryPort.findById(categoryId).orElseThrow(() -> new CategoryNotFoundException(categoryId));
+    }
+
+}
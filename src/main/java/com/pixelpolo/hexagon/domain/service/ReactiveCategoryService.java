@@ -0,0 +1,97 @@
+package com.pixelpolo.hexagon.domain.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.in.ReactiveCategoryUseCase;
+import com.pixelpolo.hexagon.domain.port.out.ReactiveCategoryPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service class implementing the ReactiveCategoryUseCase interface.
+ * Applies the same domain rules as CategoryService through CategoryBulkRules,
+ * on top of the ReactiveCategoryPort.
+ */
+@Service
+@RequiredArgsConstructor
+@Profile("reactive")
+public class ReactiveCategoryService implements ReactiveCategoryUseCase {
+
+    private final ReactiveCategoryPort categoryPort;
+
+    @Override
+    public Mono<Category> create(Category category) {
+        return categoryPort.insert(category);
+    }
+
+    @Override
+    public Mono<Category> update(long id, Category request) {
+        return categoryPort.update(id, request);
+    }
+
+    @Override
+    public Mono<List<BulkItemResult>> createAll(List<Category> categories) {
+        List<Category> unique = CategoryBulkRules.distinctNames(categories);
+        return (unique.isEmpty() ? Mono.just(List.<Category>of()) : categoryPort.insertAll(unique).collectList())
+                .map(inserted -> CategoryBulkRules.toCreateResults(categories, inserted));
+    }
+
+    @Override
+    public Mono<List<BulkItemResult>> softDeleteAll(List<Long> ids) {
+        List<Long> unique = ids.stream().distinct().toList();
+        return (unique.isEmpty() ? Mono.just(List.<Long>of()) : categoryPort.softDeleteAll(unique).collectList())
+                .map(deleted -> CategoryBulkRules.toDeleteResults(ids, deleted));
+    }
+
+    @Override
+    public Mono<List<BulkItemResult>> hardDeleteAll(List<Long> ids) {
+        List<Long> unique = ids.stream().distinct().toList();
+        return (unique.isEmpty() ? Mono.just(List.<Long>of()) : categoryPort.hardDeleteAll(unique).collectList())
+                // Only looked up when some IDs were skipped, to tell referenced categories from missing ones
+                .flatMap(deleted -> (deleted.size() < unique.size()
+                        ? categoryPort.findReferencedIds(unique).collectList()
+                        : Mono.just(List.<Long>of()))
+                        .map(referenced -> CategoryBulkRules.toDeleteResults(ids, deleted, referenced)));
+    }
+
+    @Override
+    public Mono<Window<Category>> getAll(KeysetScrollPosition position, int size) {
+        return categoryPort.findAll(position, size);
+    }
+
+    @Override
+    public Flux<Category> exportAll() {
+        return categoryPort.streamAll();
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return categoryPort.count();
+    }
+
+    @Override
+    public Mono<Category> getById(long id) {
+        return categoryPort.findById(id).switchIfEmpty(Mono.error(() -> new CategoryNotFoundException(id)));
+    }
+
+    @Override
+    public Mono<Void> softDelete(long id) {
+        return categoryPort.softDelete(id);
+    }
+
+    @Override
+    public Mono<Void> hardDelete(long id) {
+        return categoryPort.hardDelete(id);
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.pixelpolo.hexagon.infrastructure.cache.adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * CategoryAdapterCache is a read-through caching decorator of the CategoryPort interface.
+ * It wraps the active persistence adapter (postgres or mongo) and caches live categories by ID.
+ * The cache is bounded (W-TinyLFU eviction), expires after a TTL, is invalidated on writes
+ * and exposes hit/miss metrics through Micrometer.
+ * Inserts always reach the store, name lookups, list and count operations are delegated without caching.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "category.cache.enabled", havingValue = "true")
+public class CategoryAdapterCache implements CategoryPort {
+
+    private final CategoryPort categoryPort;
+    private final Cache<Long, Category> byId;
+    private final AtomicLong evictions = new AtomicLong();
+
+    // The delegate is the persistence adapter, this bean is excluded from its own injection candidates
+    public CategoryAdapterCache(
+            CategoryPort categoryPort,
+            MeterRegistry meterRegistry,
+            @Value("${category.cache.maximum-size}") long maximumSize,
+            @Value("${category.cache.ttl}") Duration ttl) {
+        this.categoryPort = categoryPort;
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "category.by-id");
+    }
+
+    @Override
+    public Category save(Category category) {
+        Category saved = categoryPort.save(category);
+        evict(saved.getCategoryId());
+        return saved;
+    }
+
+    @Override
+    public Category insert(Category category) {
+        Category inserted = categoryPort.insert(category);
+        cache(inserted);
+        return inserted;
+    }
+
+    @Override
+    public Category update(long id, Category category) {
+        Category updated = categoryPort.update(id, category);
+        evict(id);
+        cache(updated);
+        return updated;
+    }
+
+    @Override
+    public List<Category> insertAll(List<Category> categories) {
+        List<Category> inserted = categoryPort.insertAll(categories);
+        inserted.forEach(this::cache);
+        return inserted;
+    }
+
+    @Override
+    public List<Category> updateAll(List<Category> categories) {
+        List<Category> updated = categoryPort.updateAll(categories);
+        updated.forEach(category -> {
+            evict(category.getCategoryId());
+            cache(category);
+        });
+        return updated;
+    }
+
+    @Override
+    public List<Long> softDeleteAll(List<Long> ids) {
+        List<Long> deleted = categoryPort.softDeleteAll(ids);
+        deleted.forEach(this::evict);
+        return deleted;
+    }
+
+    @Override
+    public List<Long> hardDeleteAll(List<Long> ids) {
+        List<Long> deleted = categoryPort.hardDeleteAll(ids);
+        deleted.forEach(this::evict);
+        return deleted;
+    }
+
+    @Override
+    public List<Long> findReferencedIds(List<Long> ids) {
+        return categoryPort.findReferencedIds(ids);
+    }
+
+    @Override
+    public Page<Category> findAll(Pageable pageable) {
+        return categoryPort.findAll(pageable);
+    }
+
+    @Override
+    public Page<Category> findAllDeleted(Pageable pageable) {
+        return categoryPort.findAllDeleted(pageable);
+    }
+
+    @Override
+    public Slice<Category> findSlice(Pageable pageable) {
+        return categoryPort.findSlice(pageable);
+    }
+
+    @Override
+    public Slice<Category> findDeletedSlice(Pageable pageable) {
+        return categoryPort.findDeletedSlice(pageable);
+    }
+
+    @Override
+    public long count() {
+        return categoryPort.count();
+    }
+
+    @Override
+    public long countDeleted() {
+        return categoryPort.countDeleted();
+    }
+
+    @Override
+    public Window<Category> findAll(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryPort.findAll(position, sort, size);
+    }
+
+    @Override
+    public Window<Category> findAllDeleted(KeysetScrollPosition position, Sort sort, int size) {
+        return categoryPort.findAllDeleted(position, sort, size);
+    }
+
+    // Exports are not cached, they would evict the hot entries
+    @Override
+    public void streamAll(Consumer<Category> action) {
+        categoryPort.streamAll(action);
+    }
+
+    // Loaded outside the cache: Caffeine runs a get(key, loader) inside a ConcurrentHashMap bin lock,
+    // a blocking store call there would pin the carrier of a virtual thread.
+    // A copy loaded while a write evicted is not cached, it may predate the write.
+    @Override
+    public Optional<Category> findById(long id) {
+        Category cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long evictions = this.evictions.get();
+        Optional<Category> found = categoryPort.findById(id);
+        if (found.isPresent() && evictions == this.evictions.get()) {
+            byId.put(id, found.get());
+        }
+        return found;
+    }
+
+    // The store copy replaces the cached one, another instance may have written since it was cached
+    @Override
+    public Optional<Category> findCurrentById(long id) {
+        Optional<Category> current = categoryPort.findCurrentById(id);
+        evict(id);
+        current.ifPresent(this::cache);
+        return current;
+    }
+
+    // Copies cached within the unit are dropped if it fails, its writes may have been rolled back
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        try {
+            return categoryPort.inTransaction(work);
+        } catch (RuntimeException e) {
+            clear();
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Category> findByName(String name) {
+        return categoryPort.findByName(name);
+    }
+
+    /**
+     * Drops all entries, e.g. after the store was reset.
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        byId.invalidateAll();
+    }
+
+    @Override
+    public void softDelete(long id) {
+        categoryPort.softDelete(id);
+        evict(id);
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        categoryPort.hardDelete(id);
+        evict(id);
+    }
+
+    private void cache(Category category) {
+        byId.put(category.getCategoryId(), category);
+    }
+
+    private void evict(Long id) {
+        evictions.incrementAndGet();
+        byId.invalidate(id);
+    }
+
+}
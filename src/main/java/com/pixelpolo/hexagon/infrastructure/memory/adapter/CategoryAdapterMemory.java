@@ -0,0 +1,496 @@
+package com.pixelpolo.hexagon.infrastructure.memory.adapter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryInUseException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+
+/**
+ * CategoryAdapterMemory is an in-memory implementation of the CategoryPort interface, without any I/O.
+ * It runs the application and the integration tests without Docker and is the zero-latency baseline
+ * when benchmarking the upper layers.
+ * Categories are held by ID in a ConcurrentHashMap, each write is a compute on the ID (locks a single bin),
+ * live names are unique through a skip list index (putIfAbsent) which is also the view sorted by name,
+ * live and deleted IDs are separate sorted views for paging, cursors seek into these views.
+ * Other sort keys sort a snapshot.
+ * Categories are copied in and out, callers never share the stored instances.
+ */
+@Component
+@Profile("memory")
+public class CategoryAdapterMemory implements CategoryPort {
+
+    private static final String KEY = "categoryId";
+
+    // Sortable fields, as mapped by the persistence entities
+    private static final Map<String, Property> PROPERTIES = Map.of(
+            KEY, Property.of(Category::getCategoryId),
+            "name", Property.of(Category::getName),
+            "deletionDate", Property.of(Category::getDeletionDate),
+            "version", Property.of(Category::getVersion),
+            "updatedAt", Property.of(Category::getUpdatedAt));
+
+    // Nulls last in ascending order like PostgreSQL
+    private record Property(Function<Category, Object> key, Comparator<Category> order) {
+
+        static <T extends Comparable<? super T>> Property of(Function<Category, T> key) {
+            return new Property(key::apply, Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder())));
+        }
+
+    }
+
+    private final Map<Long, Category> categories = new ConcurrentHashMap<>();
+    // The stored categories are the truth, the indexes may briefly lag behind a write and are checked against them
+    private final ConcurrentSkipListMap<String, Long> names = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Long> live = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Long> deleted = new ConcurrentSkipListSet<>();
+    private final LongAdder liveCount = new LongAdder();
+    private final LongAdder deletedCount = new LongAdder();
+    private final AtomicLong ids = new AtomicLong();
+
+    // IDs of the given categories that products still reference
+    private final Function<List<Long>, Set<Long>> references;
+
+    /**
+     * Store without products, no category is ever referenced.
+     */
+    public CategoryAdapterMemory() {
+        this.references = ids -> Set.of();
+    }
+
+    /**
+     * Store whose categories are referenced by the products of ProductAdapterMemory,
+     * looked up on use since ProductAdapterMemory depends on this adapter.
+     */
+    @Autowired
+    public CategoryAdapterMemory(ObjectProvider<ProductAdapterMemory> productAdapterMemory) {
+        this.references = ids -> productAdapterMemory.getObject().findReferencedCategoryIds(ids);
+    }
+
+    @Override
+    public Category save(Category category) {
+        long id = category.getCategoryId() != null ? category.getCategoryId() : ids.incrementAndGet();
+        ids.accumulateAndGet(id, Math::max);
+        Category stored = copy(category);
+        stored.setCategoryId(id);
+        stored.setUpdatedAt(LocalDateTime.now());
+        Category previous = categories.put(id, stored);
+        if (previous != null) {
+            stored.setVersion(previous.getVersion() + 1);
+            unindex(previous);
+        } else if (stored.getVersion() == null) {
+            stored.setVersion(0L);
+        }
+        index(stored);
+        return copy(stored);
+    }
+
+    @Override
+    public Category insert(Category category) {
+        long id = ids.incrementAndGet();
+        // Atomic create-if-name-absent, the name is reserved before the category is visible
+        if (names.putIfAbsent(category.getName(), id) != null) {
+            throw new CategoryExistException(category.getName());
+        }
+        Category stored = Category.builder()
+                .categoryId(id)
+                .name(category.getName())
+                .version(0L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        categories.put(id, stored);
+        live.add(id);
+        liveCount.increment();
+        return copy(stored);
+    }
+
+    @Override
+    public Category update(long id, Category category) {
+        return rename(id, category.getName(), category.getVersion());
+    }
+
+    @Override
+    public List<Category> insertAll(List<Category> categories) {
+        List<Category> inserted = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            try {
+                inserted.add(insert(category));
+            } catch (CategoryExistException e) {
+                // Skipped, like the conflicting rows of the persistence adapters
+            }
+        }
+        return inserted;
+    }
+
+    // Each item is applied on its own, like the unordered bulk writes of the mongo profile
+    @Override
+    public List<Category> updateAll(List<Category> categories) {
+        List<Category> updated = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            try {
+                updated.add(rename(category.getCategoryId(), category.getName(), null));
+            } catch (CategoryNotFoundException | CategoryExistException e) {
+                // Not returned, the caller reports it from the missing ID
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> softDeleteAll(List<Long> ids) {
+        return ids.stream().filter(this::markDeleted).toList();
+    }
+
+    @Override
+    public List<Long> hardDeleteAll(List<Long> ids) {
+        Set<Long> referenced = references.apply(ids);
+        return ids.stream().filter(id -> !referenced.contains(id) && remove(id)).toList();
+    }
+
+    @Override
+    public List<Long> findReferencedIds(List<Long> ids) {
+        return List.copyOf(references.apply(ids));
+    }
+
+    @Override
+    public Page<Category> findAll(Pageable pageable) {
+        return new PageImpl<>(page(true, pageable, 0), pageable, count());
+    }
+
+    @Override
+    public Page<Category> findAllDeleted(Pageable pageable) {
+        return new PageImpl<>(page(false, pageable, 0), pageable, countDeleted());
+    }
+
+    @Override
+    public Slice<Category> findSlice(Pageable pageable) {
+        return slice(true, pageable);
+    }
+
+    @Override
+    public Slice<Category> findDeletedSlice(Pageable pageable) {
+        return slice(false, pageable);
+    }
+
+    @Override
+    public long count() {
+        return liveCount.sum();
+    }
+
+    @Override
+    public long countDeleted() {
+        return deletedCount.sum();
+    }
+
+    @Override
+    public Window<Category> findAll(KeysetScrollPosition position, Sort sort, int size) {
+        return scroll(true, position, sort, size);
+    }
+
+    @Override
+    public Window<Category> findAllDeleted(KeysetScrollPosition position, Sort sort, int size) {
+        return scroll(false, position, sort, size);
+    }
+
+    @Override
+    public void streamAll(Consumer<Category> action) {
+        ordered(true, Sort.by(KEY)).forEach(action);
+    }
+
+    @Override
+    public Optional<Category> findById(long id) {
+        return Optional.ofNullable(categories.get(id)).filter(CategoryAdapterMemory::isLive).map(CategoryAdapterMemory::copy);
+    }
+
+    @Override
+    public Optional<Category> findByName(String name) {
+        return Optional.ofNullable(names.get(name))
+                .flatMap(this::findById)
+                .filter(category -> category.getName().equals(name));
+    }
+
+    @Override
+    public void softDelete(long id) {
+        if (!markDeleted(id)) {
+            throw new CategoryNotFoundException(id);
+        }
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        if (!references.apply(List.of(id)).isEmpty()) {
+            throw new CategoryInUseException(id);
+        }
+        if (!remove(id)) {
+            throw new CategoryNotFoundException(id);
+        }
+    }
+
+    /**
+     * Removes all categories and restarts the IDs at 1, to seed the store again.
+     */
+    public void clear() {
+        categories.clear();
+        names.clear();
+        live.clear();
+        deleted.clear();
+        liveCount.reset();
+        deletedCount.reset();
+        ids.set(0);
+    }
+
+    // Live or deleted category, for the products that still reference it
+    Optional<Category> findAnyById(long id) {
+        return Optional.ofNullable(categories.get(id)).map(CategoryAdapterMemory::copy);
+    }
+
+    // --- WRITES ---
+
+    private Category rename(long id, String name, Long version) {
+        // The new name is reserved first, a name already owned by this category is kept as is
+        Long owner = names.putIfAbsent(name, id);
+        if (owner != null && owner != id) {
+            throw new CategoryExistException(name);
+        }
+        Category[] previous = new Category[1];
+        Category stored;
+        try {
+            stored = categories.compute(id, (key, current) -> {
+                if (current == null || !isLive(current)) {
+                    throw new CategoryNotFoundException(id);
+                }
+                if (version != null && !version.equals(current.getVersion())) {
+                    throw new CategoryVersionMismatchException(id, version);
+                }
+                previous[0] = current;
+                Category next = copy(current);
+                next.setName(name);
+                return touch(next);
+            });
+        } catch (RuntimeException e) {
+            if (owner == null) {
+                names.remove(name, id);
+            }
+            throw e;
+        }
+        if (!previous[0].getName().equals(name)) {
+            names.remove(previous[0].getName(), id);
+        }
+        return copy(stored);
+    }
+
+    // False if the category does not exist or is already deleted
+    private boolean markDeleted(long id) {
+        Category[] previous = new Category[1];
+        categories.computeIfPresent(id, (key, current) -> {
+            if (!isLive(current)) {
+                return current;
+            }
+            previous[0] = current;
+            Category next = copy(current);
+            next.setDeletionDate(LocalDateTime.now());
+            return touch(next);
+        });
+        if (previous[0] == null) {
+            return false;
+        }
+        names.remove(previous[0].getName(), id);
+        deleted.add(id);
+        live.remove(id);
+        liveCount.decrement();
+        deletedCount.increment();
+        return true;
+    }
+
+    private boolean remove(long id) {
+        Category removed = categories.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed);
+        return true;
+    }
+
+    private void index(Category category) {
+        if (isLive(category)) {
+            names.put(category.getName(), category.getCategoryId());
+            live.add(category.getCategoryId());
+            liveCount.increment();
+        } else {
+            deleted.add(category.getCategoryId());
+            deletedCount.increment();
+        }
+    }
+
+    private void unindex(Category category) {
+        if (isLive(category)) {
+            names.remove(category.getName(), category.getCategoryId());
+            live.remove(category.getCategoryId());
+            liveCount.decrement();
+        } else {
+            deleted.remove(category.getCategoryId());
+            deletedCount.decrement();
+        }
+    }
+
+    // --- READS ---
+
+    private List<Category> page(boolean alive, Pageable pageable, int extra) {
+        return ordered(alive, pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + (long) extra)
+                .toList();
+    }
+
+    // One extra category tells if there is a next slice, without counting
+    private Slice<Category> slice(boolean alive, Pageable pageable) {
+        List<Category> content = page(alive, pageable, 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // Seeks past the keys of the cursor in the sort order, the position of each item holds its sort keys and ID
+    private Window<Category> scroll(boolean alive, KeysetScrollPosition position, Sort sort, int size) {
+        Category after = position.isInitial() ? null : probe(position.getKeys());
+        List<Category> content = ordered(alive, sort, after).limit(size + 1L).toList();
+        boolean hasNext = content.size() > size;
+        List<Category> window = hasNext ? content.subList(0, size) : content;
+        return Window.from(window, i -> ScrollPosition.forward(keys(window.get(i), sort)), hasNext);
+    }
+
+    private Stream<Category> ordered(boolean alive, Sort sort) {
+        return ordered(alive, sort, null);
+    }
+
+    // Walks a sorted view from past the cursor when the sort is on the ID or on the live name,
+    // filters and sorts a snapshot otherwise
+    private Stream<Category> ordered(boolean alive, Sort sort, Category after) {
+        List<Sort.Order> orders = sort.stream().toList();
+        Sort.Order first = orders.isEmpty() ? Sort.Order.asc(KEY) : orders.getFirst();
+        if (orders.size() <= 1 && first.getProperty().equals(KEY)) {
+            NavigableSet<Long> view = alive ? live : deleted;
+            NavigableSet<Long> byId = first.isAscending() ? view : view.descendingSet();
+            return lookup((after == null ? byId : byId.tailSet(after.getCategoryId(), false)).stream(), alive);
+        }
+        // Live names are unique, the ID never breaks a tie
+        if (alive && orders.size() == 1 && first.getProperty().equals("name")
+                && (after == null || after.getName() != null)) {
+            NavigableMap<String, Long> byName = first.isAscending() ? names : names.descendingMap();
+            return lookup((after == null ? byName : byName.tailMap(after.getName(), false)).values().stream(), true);
+        }
+        Comparator<Category> comparator = comparator(sort);
+        Stream<Category> categories = lookup((alive ? live : deleted).stream(), alive);
+        if (after != null) {
+            categories = categories.filter(category -> comparator.compare(category, after) > 0);
+        }
+        return categories.sorted(comparator);
+    }
+
+    private Stream<Category> lookup(Stream<Long> ids, boolean alive) {
+        return ids.map(categories::get)
+                .filter(category -> category != null && isLive(category) == alive)
+                .map(CategoryAdapterMemory::copy);
+    }
+
+    // The ID breaks the ties
+    private static Comparator<Category> comparator(Sort sort) {
+        Comparator<Category> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Category> byKey = property(order.getProperty()).order();
+            comparator = comparator.thenComparing(order.isAscending() ? byKey : byKey.reversed());
+        }
+        return comparator.thenComparing(Category::getCategoryId);
+    }
+
+    private static Property property(String name) {
+        Property property = PROPERTIES.get(name);
+        if (property == null) {
+            throw new BadRequestException("Sort key '" + name + "' is not supported");
+        }
+        return property;
+    }
+
+    private static Map<String, Object> keys(Category category, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), property(order.getProperty()).key().apply(category)));
+        keys.put(KEY, category.getCategoryId());
+        return keys;
+    }
+
+    // A category holding the keys of the cursor, compared with the same comparator as the stored ones
+    private static Category probe(Map<String, Object> keys) {
+        try {
+            if (!(keys.get(KEY) instanceof Long id)) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return Category.builder()
+                    .categoryId(id)
+                    .name((String) keys.get("name"))
+                    .deletionDate((LocalDateTime) keys.get("deletionDate"))
+                    .version((Long) keys.get("version"))
+                    .updatedAt((LocalDateTime) keys.get("updatedAt"))
+                    .build();
+        } catch (ClassCastException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    // --- HELPERS ---
+
+    private static boolean isLive(Category category) {
+        return category.getDeletionDate() == null;
+    }
+
+    // Every write bumps the version and the last modification time, like the persistence adapters
+    private static Category touch(Category category) {
+        category.setVersion(category.getVersion() + 1);
+        category.setUpdatedAt(LocalDateTime.now());
+        return category;
+    }
+
+    private static Category copy(Category category) {
+        return Category.builder()
+                .categoryId(category.getCategoryId())
+                .name(category.getName())
+                .deletionDate(category.getDeletionDate())
+                .version(category.getVersion())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
+
+}
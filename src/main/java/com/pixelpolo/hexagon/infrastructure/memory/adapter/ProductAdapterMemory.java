@@ -0,0 +1,195 @@
+package com.pixelpolo.hexagon.infrastructure.memory.adapter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.common.exception.product.ProductExistException;
+import com.pixelpolo.hexagon.common.exception.product.ProductNotFoundException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.port.out.ProductPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductAdapterMemory is an in-memory implementation of the ProductPort interface, without any I/O.
+ * Products are held in a skip list ordered by ID for keyset pagination, names are unique through
+ * a putIfAbsent on the name index. Only the category ID is stored, the category is read from
+ * CategoryAdapterMemory so that a renamed category shows up in its products.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("memory")
+public class ProductAdapterMemory implements ProductPort {
+
+    private static final String KEY = "productId";
+
+    private final ConcurrentSkipListMap<Long, Product> products = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> names = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private final CategoryAdapterMemory categoryAdapterMemory;
+
+    @Override
+    public Product insert(Product product) {
+        long id = ids.incrementAndGet();
+        if (names.putIfAbsent(product.getName(), id) != null) {
+            throw new ProductExistException(product.getName());
+        }
+        Product stored = copy(product);
+        stored.setProductId(id);
+        stored.setCreatedAt(LocalDateTime.now());
+        stored.setUpdatedAt(stored.getCreatedAt());
+        products.put(id, stored);
+        return withCategory(stored, product.getCategory());
+    }
+
+    @Override
+    public Product update(long id, Product product) {
+        Long owner = names.putIfAbsent(product.getName(), id);
+        if (owner != null && owner != id) {
+            throw new ProductExistException(product.getName());
+        }
+        Product[] previous = new Product[1];
+        Product stored = products.computeIfPresent(id, (key, current) -> {
+            if (current.getDeletionDate() != null) {
+                return current;
+            }
+            previous[0] = current;
+            Product next = copy(product);
+            next.setProductId(id);
+            next.setCreatedAt(current.getCreatedAt());
+            next.setUpdatedAt(LocalDateTime.now());
+            return next;
+        });
+        if (previous[0] == null) {
+            if (owner == null) {
+                names.remove(product.getName(), id);
+            }
+            throw new ProductNotFoundException(id);
+        }
+        if (!previous[0].getName().equals(product.getName())) {
+            names.remove(previous[0].getName(), id);
+        }
+        return withCategory(stored, product.getCategory());
+    }
+
+    @Override
+    public List<Product> insertAll(List<Product> products) {
+        List<Product> inserted = new ArrayList<>(products.size());
+        for (Product product : products) {
+            try {
+                inserted.add(insert(product));
+            } catch (ProductExistException e) {
+                // Skipped, like the conflicting rows of the persistence adapters
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public Window<Product> findAll(Long categoryId, KeysetScrollPosition position, int size) {
+        Stream<Product> after = products.tailMap(KeysetUtils.after(position, KEY), false).values().stream()
+                .filter(p -> categoryId == null || categoryId.equals(p.getCategory().getCategoryId()));
+        List<Product> content = live(after).limit(size + 1L).toList();
+        return KeysetUtils.toWindow(content, size, KEY, Product::getProductId);
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        live(products.values().stream()).forEach(action);
+    }
+
+    @Override
+    public Product findById(long id) {
+        return live(Stream.ofNullable(products.get(id))).findFirst().orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    @Override
+    public void softDelete(long id) {
+        boolean[] deleted = new boolean[1];
+        products.computeIfPresent(id, (key, current) -> {
+            deleted[0] = current.getDeletionDate() == null;
+            if (!deleted[0]) {
+                return current;
+            }
+            Product next = copy(current);
+            next.setDeletionDate(LocalDateTime.now());
+            return next;
+        });
+        if (!deleted[0]) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        Product removed = products.remove(id);
+        if (removed == null) {
+            throw new ProductNotFoundException(id);
+        }
+        names.remove(removed.getName(), id);
+    }
+
+    /**
+     * Returns the IDs of the given categories referenced by a product, deleted or not,
+     * like the foreign key of the postgres profile.
+     */
+    public Set<Long> findReferencedCategoryIds(Collection<Long> categoryIds) {
+        Set<Long> wanted = Set.copyOf(categoryIds);
+        return products.values().stream()
+                .map(product -> product.getCategory().getCategoryId())
+                .filter(wanted::contains)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Removes all products and restarts the IDs at 1, to seed the store again.
+     */
+    public void clear() {
+        products.clear();
+        names.clear();
+        ids.set(0);
+    }
+
+    private Stream<Product> live(Stream<Product> products) {
+        return products.filter(p -> p.getDeletionDate() == null)
+                .map(p -> withCategory(p, categoryAdapterMemory.findAnyById(p.getCategory().getCategoryId()).orElse(null)));
+    }
+
+    // Stored with the category ID only, returned with the given category
+    private static Product withCategory(Product product, Category category) {
+        Product copy = copy(product);
+        copy.setCategory(category);
+        return copy;
+    }
+
+    private static Product copy(Product product) {
+        return Product.builder()
+                .productId(product.getProductId())
+                .category(Category.builder().categoryId(product.getCategory().getCategoryId()).build())
+                .name(product.getName())
+                .description(product.getDescription())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .deletionDate(product.getDeletionDate())
+                .build();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.pixelpolo.hexagon.infrastructure.memory.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.ReactiveCategoryPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveCategoryAdapterMemory is an in-memory implementation of the ReactiveCategoryPort interface.
+ * It shares the store of CategoryAdapterMemory, whose calls never block, so both stacks see the same categories.
+ * Calls are deferred to subscription and their exceptions are signalled as errors.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("memory & reactive")
+public class ReactiveCategoryAdapterMemory implements ReactiveCategoryPort {
+
+    private static final Sort BY_ID = Sort.by("categoryId");
+
+    private final CategoryAdapterMemory categoryAdapterMemory;
+
+    @Override
+    public Mono<Category> insert(Category category) {
+        return Mono.fromCallable(() -> categoryAdapterMemory.insert(category));
+    }
+
+    @Override
+    public Mono<Category> update(long id, Category category) {
+        return Mono.fromCallable(() -> categoryAdapterMemory.update(id, category));
+    }
+
+    @Override
+    public Flux<Category> insertAll(List<Category> categories) {
+        return Flux.defer(() -> Flux.fromIterable(categoryAdapterMemory.insertAll(categories)));
+    }
+
+    @Override
+    public Flux<Long> softDeleteAll(List<Long> ids) {
+        return Flux.defer(() -> Flux.fromIterable(categoryAdapterMemory.softDeleteAll(ids)));
+    }
+
+    @Override
+    public Flux<Long> hardDeleteAll(List<Long> ids) {
+        return Flux.defer(() -> Flux.fromIterable(categoryAdapterMemory.hardDeleteAll(ids)));
+    }
+
+    @Override
+    public Flux<Long> findReferencedIds(List<Long> ids) {
+        return Flux.defer(() -> Flux.fromIterable(categoryAdapterMemory.findReferencedIds(ids)));
+    }
+
+    @Override
+    public Mono<Window<Category>> findAll(KeysetScrollPosition position, int size) {
+        return Mono.fromCallable(() -> categoryAdapterMemory.findAll(position, BY_ID, size));
+    }
+
+    @Override
+    public Flux<Category> streamAll() {
+        return Flux.defer(() -> {
+            List<Category> categories = new ArrayList<>();
+            categoryAdapterMemory.streamAll(categories::add);
+            return Flux.fromIterable(categories);
+        });
+    }
+
+    @Override
+    public Mono<Category> findById(long id) {
+        return Mono.defer(() -> Mono.justOrEmpty(categoryAdapterMemory.findById(id)));
+    }
+
+    @Override
+    public Mono<Void> softDelete(long id) {
+        return Mono.fromRunnable(() -> categoryAdapterMemory.softDelete(id));
+    }
+
+    @Override
+    public Mono<Void> hardDelete(long id) {
+        return Mono.fromRunnable(() -> categoryAdapterMemory.hardDelete(id));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromCallable(categoryAdapterMemory::count);
+    }
+
+}
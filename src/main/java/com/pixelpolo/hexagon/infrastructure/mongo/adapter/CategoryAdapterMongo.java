@@ -1,18 +1,47 @@
 package com.pixelpolo.hexagon.infrastructure.mongo.adapter;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryInUseException;
 import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+import com.pixelpolo.hexagon.infrastructure.mongo.codec.CategoryReaderMongo;
 import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
 import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
 import com.pixelpolo.hexagon.infrastructure.mongo.repository.CategoryRepositoryMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.sequence.SequenceGeneratorMongo;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,25 +50,143 @@ import lombok.RequiredArgsConstructor;
  * It serves as an adapter between the domain layer and the MongoDB database.
  * It uses CategoryRepositoryMongo to perform database operations and
  * CategoryMapperMongo to convert between Category domain models and CategoryEntityMongo database entities.
+ * Single-write operations (insert, update) go through MongoTemplate to rely on the unique name index,
+ * bulk operations use unordered bulk writes so that one failed item does not stop the others.
+ * New IDs are allocated by SequenceGeneratorMongo.
+ * The by-ID and list reads of the endpoints go through CategoryReaderMongo, which decodes BSON straight into Category.
  */
 @Component
 @RequiredArgsConstructor
 @Profile("mongo")
 public class CategoryAdapterMongo implements CategoryPort {
 
+    // Documents per round trip of the export cursors
+    static final int STREAM_BATCH_SIZE = 500;
+
     private final CategoryRepositoryMongo categoryRepositoryMongo;
     private final CategoryMapperMongo categoryMapperMongo;
+    private final MongoTemplate mongoTemplate;
+    private final SequenceGeneratorMongo sequenceGeneratorMongo;
+    private final CategoryReaderMongo categoryReaderMongo;
 
+    // Unconditional write of the whole category, at the version following the given one
     @Override
     public Category save(Category category) {
         CategoryEntityMongo entity = categoryMapperMongo.toEntity(category);
         if (entity.getCategoryId() == null) {
-            entity.setCategoryId(System.currentTimeMillis()); // NoSql doesn't support auto-increment
+            entity.setCategoryId(sequenceGeneratorMongo.nextId(CategoryEntityMongo.class));
         }
+        entity.setVersion(category.getVersion() == null ? 0 : category.getVersion() + 1);
+        entity.setUpdatedAt(LocalDateTime.now());
         categoryRepositoryMongo.save(entity);
         return categoryMapperMongo.toDomain(entity);
     }
 
+    @Override
+    public Category insert(Category category) {
+        CategoryEntityMongo entity = categoryMapperMongo.toEntity(category);
+        if (entity.getCategoryId() == null) {
+            entity.setCategoryId(sequenceGeneratorMongo.nextId(CategoryEntityMongo.class));
+        }
+        stamp(entity);
+        try {
+            mongoTemplate.insert(entity);
+        } catch (DuplicateKeyException e) {
+            throw new CategoryExistException(category.getName());
+        }
+        return categoryMapperMongo.toDomain(entity);
+    }
+
+    @Override
+    public Category update(long id, Category category) {
+        Criteria criteria = Criteria.where("categoryId").is(id).and("deletionDate").isNull();
+        if (category.getVersion() != null) {
+            criteria = atVersion(criteria, category.getVersion());
+        }
+        Update update = touch(Update.update("name", category.getName()));
+        try {
+            CategoryEntityMongo entity = mongoTemplate.findAndModify(
+                    Query.query(criteria), update, FindAndModifyOptions.options().returnNew(true), CategoryEntityMongo.class);
+            if (entity == null) {
+                throw notUpdated(id, category.getVersion());
+            }
+            return categoryMapperMongo.toDomain(entity);
+        } catch (DuplicateKeyException e) {
+            throw new CategoryExistException(category.getName());
+        }
+    }
+
+    @Override
+    public List<Category> insertAll(List<Category> categories) {
+        List<CategoryEntityMongo> entities = categories.stream().map(categoryMapperMongo::toEntity).toList();
+        entities.forEach(entity -> {
+            entity.setCategoryId(sequenceGeneratorMongo.nextId(CategoryEntityMongo.class));
+            stamp(entity);
+        });
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CategoryEntityMongo.class);
+        bulk.insert(entities);
+        Set<Integer> failed = executeBulk(bulk);
+        return IntStream.range(0, entities.size())
+                .filter(i -> !failed.contains(i))
+                .mapToObj(i -> categoryMapperMongo.toDomain(entities.get(i)))
+                .toList();
+    }
+
+    @Override
+    public List<Category> updateAll(List<Category> categories) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CategoryEntityMongo.class);
+        categories.forEach(category -> bulk.updateOne(
+                Query.query(Criteria.where("categoryId").is(category.getCategoryId()).and("deletionDate").isNull()),
+                touch(Update.update("name", category.getName()))));
+        Set<Integer> failed = executeBulk(bulk);
+
+        // The bulk result only has counts, read back which categories now have the requested name
+        Map<Long, String> requested = new HashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            if (!failed.contains(i)) {
+                requested.put(categories.get(i).getCategoryId(), categories.get(i).getName());
+            }
+        }
+        Query updated = Query.query(Criteria.where("categoryId").in(requested.keySet()).and("deletionDate").isNull());
+        return mongoTemplate.find(updated, CategoryEntityMongo.class).stream()
+                .filter(entity -> entity.getName().equals(requested.get(entity.getCategoryId())))
+                .map(categoryMapperMongo::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> softDeleteAll(List<Long> ids) {
+        Query live = Query.query(Criteria.where("categoryId").in(ids).and("deletionDate").isNull());
+        live.fields().include("categoryId");
+        List<Long> found = mongoTemplate.find(live, CategoryEntityMongo.class).stream()
+                .map(CategoryEntityMongo::getCategoryId)
+                .toList();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("categoryId").in(found).and("deletionDate").isNull()),
+                touch(Update.update("deletionDate", LocalDateTime.now())),
+                CategoryEntityMongo.class);
+        return found;
+    }
+
+    // Categories still referenced by products are kept, MongoDB has no foreign key to refuse their removal
+    @Override
+    public List<Long> hardDeleteAll(List<Long> ids) {
+        Set<Long> referenced = Set.copyOf(findReferencedIds(ids));
+        List<Long> unreferenced = ids.stream().filter(id -> !referenced.contains(id)).toList();
+        return mongoTemplate.findAllAndRemove(Query.query(Criteria.where("categoryId").in(unreferenced)),
+                                              CategoryEntityMongo.class)
+                .stream()
+                .map(CategoryEntityMongo::getCategoryId)
+                .toList();
+    }
+
+    // Deleted products still reference their category, like the foreign key of the postgres profile
+    @Override
+    public List<Long> findReferencedIds(List<Long> ids) {
+        return mongoTemplate.findDistinct(Query.query(Criteria.where("categoryId").in(ids)), "categoryId",
+                                          ProductEntityMongo.class, Long.class);
+    }
+
     @Override
     public Page<Category> findAll(Pageable pageable) {
         Page<CategoryEntityMongo> entities = categoryRepositoryMongo.findAllByDeletionDateIsNull(pageable);
@@ -53,32 +200,116 @@ public class CategoryAdapterMongo implements CategoryPort {
     }
 
     @Override
-    public Category findById(long id) {
-        CategoryEntityMongo entity = categoryRepositoryMongo.findByCategoryIdAndDeletionDateIsNull(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        return categoryMapperMongo.toDomain(entity);
+    public Slice<Category> findSlice(Pageable pageable) {
+        return categoryReaderMongo.findSlice(true, pageable);
     }
 
     @Override
-    public Category findByName(String name) {
-        CategoryEntityMongo entity = categoryRepositoryMongo.findByNameAndDeletionDateIsNull(name)
-                .orElseThrow(() -> new CategoryNotFoundException(name));
-        return categoryMapperMongo.toDomain(entity);
+    public Slice<Category> findDeletedSlice(Pageable pageable) {
+        return categoryReaderMongo.findSlice(false, pageable);
+    }
+
+    @Override
+    public long count() {
+        return categoryRepositoryMongo.countByDeletionDateIsNull();
+    }
+
+    @Override
+    public long countDeleted() {
+        return categoryRepositoryMongo.countByDeletionDateIsNotNull();
+    }
+
+    @Override
+    public Window<Category> findAll(KeysetScrollPosition position, Sort sort, int size) {
+        if (CategoryReaderMongo.isIdOrder(sort)) {
+            return categoryReaderMongo.scrollById(true, position, sort, size);
+        }
+        Window<CategoryEntityMongo> entities = categoryRepositoryMongo.findAllByDeletionDateIsNull(position, sort, Limit.of(size));
+        return categoryMapperMongo.toDomainWindow(entities);
+    }
+
+    @Override
+    public Window<Category> findAllDeleted(KeysetScrollPosition position, Sort sort, int size) {
+        if (CategoryReaderMongo.isIdOrder(sort)) {
+            return categoryReaderMongo.scrollById(false, position, sort, size);
+        }
+        Window<CategoryEntityMongo> entities = categoryRepositoryMongo.findAllByDeletionDateIsNotNull(position, sort, Limit.of(size));
+        return categoryMapperMongo.toDomainWindow(entities);
+    }
+
+    @Override
+    public void streamAll(Consumer<Category> action) {
+        Query query = Query.query(Criteria.where("deletionDate").isNull())
+                .with(Sort.by("categoryId"))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        try (Stream<CategoryEntityMongo> entities = mongoTemplate.stream(query, CategoryEntityMongo.class)) {
+            entities.forEach(entity -> action.accept(categoryMapperMongo.toDomain(entity)));
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(long id) {
+        return categoryReaderMongo.findById(id);
+    }
+
+    @Override
+    public Optional<Category> findByName(String name) {
+        return categoryRepositoryMongo.findByNameAndDeletionDateIsNull(name).map(categoryMapperMongo::toDomain);
     }
 
     @Override
     public void softDelete(long id) {
-        CategoryEntityMongo entity = categoryRepositoryMongo.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        entity.setDeletionDate(LocalDateTime.now());
-        categoryRepositoryMongo.save(entity);
+        // Single conditional update, no match means the category does not exist or is already deleted
+        Query query = Query.query(Criteria.where("categoryId").is(id).and("deletionDate").isNull());
+        Update update = touch(Update.update("deletionDate", LocalDateTime.now()));
+        if (mongoTemplate.updateFirst(query, update, CategoryEntityMongo.class).getMatchedCount() == 0) {
+            throw new CategoryNotFoundException(id);
+        }
     }
 
     @Override
     public void hardDelete(long id) {
-        CategoryEntityMongo entity = categoryRepositoryMongo.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        categoryRepositoryMongo.delete(entity);
+        Query query = Query.query(Criteria.where("categoryId").is(id));
+        if (mongoTemplate.exists(query, ProductEntityMongo.class)) {
+            throw new CategoryInUseException(id);
+        }
+        if (mongoTemplate.remove(query, CategoryEntityMongo.class).getDeletedCount() == 0) {
+            throw new CategoryNotFoundException(id);
+        }
+    }
+
+    // Unordered bulks run all operations, returns the indexes of the failed ones (e.g. duplicate names)
+    private Set<Integer> executeBulk(BulkOperations bulk) {
+        try {
+            bulk.execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+    // New categories start at version 0, like the column default of the PostgreSQL profile
+    private static void stamp(CategoryEntityMongo entity) {
+        entity.setVersion(0L);
+        entity.setUpdatedAt(LocalDateTime.now());
+    }
+
+    // Every write bumps the version and the last modification time
+    private static Update touch(Update update) {
+        return update.inc("version", 1).set("updatedAt", LocalDateTime.now());
+    }
+
+    // Documents written before versioning have no version field and are sent as version 0
+    static Criteria atVersion(Criteria criteria, long version) {
+        return version == 0 ? criteria.and("version").in(0L, null) : criteria.and("version").is(version);
+    }
+
+    // Only looked up when the conditional update did not match
+    private RuntimeException notUpdated(long id, Long version) {
+        if (version != null && categoryRepositoryMongo.findByCategoryIdAndDeletionDateIsNull(id).isPresent()) {
+            return new CategoryVersionMismatchException(id, version);
+        }
+        return new CategoryNotFoundException(id);
     }
 
 }
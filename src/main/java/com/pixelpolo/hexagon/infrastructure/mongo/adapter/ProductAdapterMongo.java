@@ -0,0 +1,196 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.adapter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.pixelpolo.hexagon.common.exception.product.ProductExistException;
+import com.pixelpolo.hexagon.common.exception.product.ProductNotFoundException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.port.out.ProductPort;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.ProductMapperMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.repository.ProductRepositoryMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.sequence.SequenceGeneratorMongo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductAdapterMongo is an implementation of the ProductPort interface for MongoDB.
+ * Writes are single MongoTemplate operations relying on the unique name index,
+ * the category given by the service is reused for the result.
+ * Lists project the summary fields and load the categories of a window in one query.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("mongo")
+public class ProductAdapterMongo implements ProductPort {
+
+    private static final String KEY = "productId";
+
+    private final ProductRepositoryMongo productRepositoryMongo;
+    private final ProductMapperMongo productMapperMongo;
+    private final CategoryMapperMongo categoryMapperMongo;
+    private final MongoTemplate mongoTemplate;
+    private final SequenceGeneratorMongo sequenceGeneratorMongo;
+
+    @Override
+    public Product insert(Product product) {
+        ProductEntityMongo entity = productMapperMongo.toEntity(product);
+        entity.setProductId(sequenceGeneratorMongo.nextId(ProductEntityMongo.class));
+        entity.setCreatedAt(LocalDateTime.now());
+        entity.setUpdatedAt(entity.getCreatedAt());
+        try {
+            return withCategory(mongoTemplate.insert(entity), product.getCategory());
+        } catch (DuplicateKeyException e) {
+            throw new ProductExistException(product.getName());
+        }
+    }
+
+    @Override
+    public Product update(long id, Product product) {
+        Query query = Query.query(Criteria.where("productId").is(id).and("deletionDate").isNull());
+        Update update = Update.update("categoryId", product.getCategory().getCategoryId())
+                .set("name", product.getName())
+                .set("description", product.getDescription())
+                .set("updatedAt", LocalDateTime.now());
+        try {
+            ProductEntityMongo entity = mongoTemplate.findAndModify(
+                    query, update, FindAndModifyOptions.options().returnNew(true), ProductEntityMongo.class);
+            if (entity == null) {
+                throw new ProductNotFoundException(id);
+            }
+            return withCategory(entity, product.getCategory());
+        } catch (DuplicateKeyException e) {
+            throw new ProductExistException(product.getName());
+        }
+    }
+
+    // Unordered bulk insert, the products whose name is taken fail on the unique index and the others are written
+    @Override
+    public List<Product> insertAll(List<Product> products) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductEntityMongo> entities = products.stream().map(productMapperMongo::toEntity).toList();
+        entities.forEach(entity -> {
+            entity.setProductId(sequenceGeneratorMongo.nextId(ProductEntityMongo.class));
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+        });
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductEntityMongo.class);
+        bulk.insert(entities);
+        Set<Integer> failed = executeBulk(bulk);
+        return IntStream.range(0, entities.size())
+                .filter(i -> !failed.contains(i))
+                .mapToObj(i -> withCategory(entities.get(i), products.get(i).getCategory()))
+                .toList();
+    }
+
+    @Override
+    public Window<Product> findAll(Long categoryId, KeysetScrollPosition position, int size) {
+        Criteria criteria = Criteria.where("productId").gt(KeysetUtils.after(position, KEY)).and("deletionDate").isNull();
+        if (categoryId != null) {
+            criteria = criteria.and("categoryId").is(categoryId);
+        }
+        Query query = Query.query(criteria).with(Sort.by(KEY)).limit(size + 1);
+        query.fields().include("name", "categoryId");
+        List<Product> products = productMapperMongo.toDomainList(mongoTemplate.find(query, ProductEntityMongo.class));
+
+        // One query for the categories of the whole window instead of one per product
+        Map<Long, Category> categories = findCategories(products);
+        products.forEach(p -> p.setCategory(categories.get(p.getCategory().getCategoryId())));
+        return KeysetUtils.toWindow(products, size, KEY, Product::getProductId);
+    }
+
+    // Categories are loaded once each while the cursor goes through the products
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        Query query = Query.query(Criteria.where("deletionDate").isNull())
+                .with(Sort.by(KEY))
+                .cursorBatchSize(CategoryAdapterMongo.STREAM_BATCH_SIZE);
+        Map<Long, Category> categories = new HashMap<>();
+        try (Stream<ProductEntityMongo> entities = mongoTemplate.stream(query, ProductEntityMongo.class)) {
+            entities.forEach(entity -> action.accept(
+                    withCategory(entity, categories.computeIfAbsent(entity.getCategoryId(), this::findCategory))));
+        }
+    }
+
+    @Override
+    public Product findById(long id) {
+        ProductEntityMongo entity = productRepositoryMongo.findByProductIdAndDeletionDateIsNull(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        return withCategory(entity, findCategory(entity.getCategoryId()));
+    }
+
+    @Override
+    public void softDelete(long id) {
+        Query query = Query.query(Criteria.where("productId").is(id).and("deletionDate").isNull());
+        Update update = Update.update("deletionDate", LocalDateTime.now());
+        if (mongoTemplate.updateFirst(query, update, ProductEntityMongo.class).getMatchedCount() == 0) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        Query query = Query.query(Criteria.where("productId").is(id));
+        if (mongoTemplate.remove(query, ProductEntityMongo.class).getDeletedCount() == 0) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    private Category findCategory(long id) {
+        return categoryMapperMongo.toDomain(mongoTemplate.findById(id, CategoryEntityMongo.class));
+    }
+
+    private Map<Long, Category> findCategories(List<Product> products) {
+        List<Long> ids = products.stream().map(p -> p.getCategory().getCategoryId()).distinct().toList();
+        Query query = Query.query(Criteria.where("categoryId").in(ids));
+        query.fields().include("name");
+        return mongoTemplate.find(query, CategoryEntityMongo.class).stream()
+                .map(categoryMapperMongo::toDomain)
+                .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+    }
+
+    // Indexes of the failed writes, the other writes of an unordered bulk are applied
+    private Set<Integer> executeBulk(BulkOperations bulk) {
+        try {
+            bulk.execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+    private Product withCategory(ProductEntityMongo entity, Category category) {
+        Product product = productMapperMongo.toDomain(entity);
+        product.setCategory(category);
+        return product;
+    }
+
+}
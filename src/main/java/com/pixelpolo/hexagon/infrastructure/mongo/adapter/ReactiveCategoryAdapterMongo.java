@@ -0,0 +1,221 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.result.DeleteResult;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryInUseException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.ReactiveCategoryPort;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.sequence.SequenceGeneratorMongo;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ReactiveCategoryAdapterMongo is an implementation of the ReactiveCategoryPort interface for MongoDB.
+ * It runs the same queries as CategoryAdapterMongo through the ReactiveMongoTemplate,
+ * batch inserts are one insert per category so that one duplicate name does not stop the others.
+ * New IDs come from SequenceGeneratorMongo, whose block refills are blocking and run off the event loop.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("mongo & reactive")
+public class ReactiveCategoryAdapterMongo implements ReactiveCategoryPort {
+
+    private static final String KEY = "categoryId";
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final CategoryMapperMongo categoryMapperMongo;
+    private final SequenceGeneratorMongo sequenceGeneratorMongo;
+
+    @Override
+    public Mono<Category> insert(Category category) {
+        CategoryEntityMongo entity = categoryMapperMongo.toEntity(category);
+        return nextIds(1)
+                .map(ids -> {
+                    entity.setCategoryId(ids[0]);
+                    stamp(entity);
+                    return entity;
+                })
+                .flatMap(reactiveMongoTemplate::insert)
+                .onErrorMap(DuplicateKeyException.class, e -> new CategoryExistException(category.getName()))
+                .map(categoryMapperMongo::toDomain);
+    }
+
+    @Override
+    public Mono<Category> update(long id, Category category) {
+        Criteria criteria = Criteria.where("categoryId").is(id).and("deletionDate").isNull();
+        if (category.getVersion() != null) {
+            criteria = CategoryAdapterMongo.atVersion(criteria, category.getVersion());
+        }
+        return reactiveMongoTemplate.findAndModify(Query.query(criteria), touch(Update.update("name", category.getName())),
+                                                   FindAndModifyOptions.options().returnNew(true), CategoryEntityMongo.class)
+                .onErrorMap(DuplicateKeyException.class, e -> new CategoryExistException(category.getName()))
+                .switchIfEmpty(Mono.defer(() -> notUpdated(id, category.getVersion())))
+                .map(categoryMapperMongo::toDomain);
+    }
+
+    // The inserts are pipelined on the connection pool, a taken name only skips its own category
+    @Override
+    public Flux<Category> insertAll(List<Category> categories) {
+        List<CategoryEntityMongo> entities = categories.stream().map(categoryMapperMongo::toEntity).toList();
+        return nextIds(entities.size())
+                .flatMapMany(ids -> Flux.range(0, entities.size()).map(i -> {
+                    CategoryEntityMongo entity = entities.get(i);
+                    entity.setCategoryId(ids[i]);
+                    stamp(entity);
+                    return entity;
+                }))
+                .flatMapSequential(entity -> reactiveMongoTemplate.insert(entity)
+                        .onErrorResume(DuplicateKeyException.class, e -> Mono.empty()))
+                .map(categoryMapperMongo::toDomain);
+    }
+
+    @Override
+    public Flux<Long> softDeleteAll(List<Long> ids) {
+        Query live = Query.query(Criteria.where("categoryId").in(ids).and("deletionDate").isNull());
+        live.fields().include("categoryId");
+        return reactiveMongoTemplate.find(live, CategoryEntityMongo.class)
+                .map(CategoryEntityMongo::getCategoryId)
+                .collectList()
+                .flatMapMany(found -> reactiveMongoTemplate.updateMulti(
+                                Query.query(Criteria.where("categoryId").in(found).and("deletionDate").isNull()),
+                                touch(Update.update("deletionDate", LocalDateTime.now())),
+                                CategoryEntityMongo.class)
+                        .thenMany(Flux.fromIterable(found)));
+    }
+
+    @Override
+    public Flux<Long> hardDeleteAll(List<Long> ids) {
+        return findReferencedIds(ids)
+                .collect(Collectors.toSet())
+                .map(referenced -> ids.stream().filter(id -> !referenced.contains(id)).toList())
+                .flatMapMany(unreferenced -> reactiveMongoTemplate.findAllAndRemove(
+                        Query.query(Criteria.where("categoryId").in(unreferenced)), CategoryEntityMongo.class))
+                .map(CategoryEntityMongo::getCategoryId);
+    }
+
+    @Override
+    public Flux<Long> findReferencedIds(List<Long> ids) {
+        return reactiveMongoTemplate.findDistinct(Query.query(Criteria.where("categoryId").in(ids)), "categoryId",
+                                                  ProductEntityMongo.class, Long.class);
+    }
+
+    // One extra document tells if there is a next window
+    @Override
+    public Mono<Window<Category>> findAll(KeysetScrollPosition position, int size) {
+        return Mono.fromSupplier(() -> KeysetUtils.after(position, KEY))
+                .flatMap(after -> reactiveMongoTemplate.find(
+                                Query.query(Criteria.where("deletionDate").isNull().and("categoryId").gt(after))
+                                        .with(Sort.by(KEY))
+                                        .limit(size + 1),
+                                CategoryEntityMongo.class)
+                        .map(categoryMapperMongo::toDomain)
+                        .collectList())
+                .map(categories -> KeysetUtils.toWindow(categories, size, KEY, Category::getCategoryId));
+    }
+
+    @Override
+    public Flux<Category> streamAll() {
+        Query query = Query.query(Criteria.where("deletionDate").isNull())
+                .with(Sort.by(KEY))
+                .cursorBatchSize(CategoryAdapterMongo.STREAM_BATCH_SIZE);
+        return reactiveMongoTemplate.find(query, CategoryEntityMongo.class).map(categoryMapperMongo::toDomain);
+    }
+
+    @Override
+    public Mono<Category> findById(long id) {
+        return findLive(id).map(categoryMapperMongo::toDomain);
+    }
+
+    @Override
+    public Mono<Void> softDelete(long id) {
+        // Single conditional update, no match means the category does not exist or is already deleted
+        Query query = Query.query(Criteria.where("categoryId").is(id).and("deletionDate").isNull());
+        return reactiveMongoTemplate.updateFirst(query, touch(Update.update("deletionDate", LocalDateTime.now())),
+                                                 CategoryEntityMongo.class)
+                .flatMap(result -> result.getMatchedCount() == 0
+                                   ? Mono.<Void>error(new CategoryNotFoundException(id))
+                                   : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Void> hardDelete(long id) {
+        Query query = Query.query(Criteria.where("categoryId").is(id));
+        return reactiveMongoTemplate.exists(query, ProductEntityMongo.class)
+                .flatMap(referenced -> referenced
+                                       ? Mono.<DeleteResult>error(new CategoryInUseException(id))
+                                       : reactiveMongoTemplate.remove(query, CategoryEntityMongo.class))
+                .flatMap(result -> result.getDeletedCount() == 0
+                                   ? Mono.<Void>error(new CategoryNotFoundException(id))
+                                   : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return reactiveMongoTemplate.count(Query.query(Criteria.where("deletionDate").isNull()), CategoryEntityMongo.class);
+    }
+
+    // Most IDs come from the current block, a refill is a blocking round trip
+    private Mono<long[]> nextIds(int count) {
+        return Mono.fromCallable(() -> {
+            long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = sequenceGeneratorMongo.nextId(CategoryEntityMongo.class);
+            }
+            return ids;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<CategoryEntityMongo> findLive(long id) {
+        return reactiveMongoTemplate.findOne(Query.query(Criteria.where("categoryId").is(id).and("deletionDate").isNull()),
+                                             CategoryEntityMongo.class);
+    }
+
+    // New categories start at version 0, like the column default of the PostgreSQL profile
+    private static void stamp(CategoryEntityMongo entity) {
+        entity.setVersion(0L);
+        entity.setUpdatedAt(LocalDateTime.now());
+    }
+
+    // Every write bumps the version and the last modification time
+    private static Update touch(Update update) {
+        return update.inc("version", 1).set("updatedAt", LocalDateTime.now());
+    }
+
+    // Only looked up when the conditional update did not match
+    private Mono<CategoryEntityMongo> notUpdated(long id, Long version) {
+        if (version == null) {
+            return Mono.error(new CategoryNotFoundException(id));
+        }
+        return findLive(id)
+                .hasElement()
+                .flatMap(exists -> Mono.<CategoryEntityMongo>error(exists
+                                                                          ? new CategoryVersionMismatchException(id, version)
+                                                                          : new CategoryNotFoundException(id)));
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.codec;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+
+/**
+ * BSON codec reading category documents straight into the Category domain model,
+ * without the Document, CategoryEntityMongo and MapStruct steps of the repository reads.
+ * Fields are read as CategoryEntityMongo stores them: the ID is _id, dates are UTC instants
+ * converted in the system time zone like the Spring Data converters do, other fields (e.g. _class) are skipped.
+ */
+public class CategoryCodecMongo implements Codec<Category> {
+
+    static final String ID = "_id";
+    static final String NAME = "name";
+    static final String DELETION_DATE = "deletionDate";
+    static final String VERSION = "version";
+    static final String UPDATED_AT = "updatedAt";
+
+    @Override
+    public Category decode(BsonReader reader, DecoderContext decoderContext) {
+        Category category = new Category();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (field) {
+                case ID -> category.setCategoryId(readLong(reader));
+                case NAME -> category.setName(reader.readString());
+                case DELETION_DATE -> category.setDeletionDate(readDateTime(reader));
+                case VERSION -> category.setVersion(readLong(reader));
+                case UPDATED_AT -> category.setUpdatedAt(readDateTime(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return category;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Category category, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (category.getCategoryId() != null) {
+            writer.writeInt64(ID, category.getCategoryId());
+        }
+        if (category.getName() != null) {
+            writer.writeString(NAME, category.getName());
+        }
+        writeDateTime(writer, DELETION_DATE, category.getDeletionDate());
+        if (category.getVersion() != null) {
+            writer.writeInt64(VERSION, category.getVersion());
+        }
+        writeDateTime(writer, UPDATED_AT, category.getUpdatedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Category> getEncoderClass() {
+        return Category.class;
+    }
+
+    // Numbers written by other clients (e.g. the shell) may not be 64-bit integers
+    private static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> reader.readInt64();
+        };
+    }
+
+    private static LocalDateTime readDateTime(BsonReader reader) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZoneId.systemDefault());
+    }
+
+    private static void writeDateTime(BsonWriter writer, String field, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(field, value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.conversions.Bson;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+
+/**
+ * Lean reader of the category collection for the by-ID and list paths of CategoryAdapterMongo.
+ * Queries project the fields of a category and documents are decoded by CategoryCodecMongo
+ * straight into Category, instead of going through MappingMongoConverter and CategoryMapperMongo.
+ * Lists read one extra document (size + 1) to know if there is a next slice or window.
+ */
+@Component
+@Profile("mongo")
+public class CategoryReaderMongo {
+
+    private static final String KEY = "categoryId";
+
+    // Sortable domain properties and their document fields
+    private static final Map<String, String> FIELDS = Map.of(
+            KEY, CategoryCodecMongo.ID,
+            CategoryCodecMongo.NAME, CategoryCodecMongo.NAME,
+            CategoryCodecMongo.DELETION_DATE, CategoryCodecMongo.DELETION_DATE,
+            CategoryCodecMongo.VERSION, CategoryCodecMongo.VERSION,
+            CategoryCodecMongo.UPDATED_AT, CategoryCodecMongo.UPDATED_AT);
+
+    // _id is included by default, _class is left out
+    private static final Bson PROJECTION = Projections.include(
+            CategoryCodecMongo.NAME, CategoryCodecMongo.DELETION_DATE, CategoryCodecMongo.VERSION, CategoryCodecMongo.UPDATED_AT);
+
+    private final MongoCollection<Category> categories;
+    private final MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+
+    public CategoryReaderMongo(MongoTemplate mongoTemplate) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(CategoryEntityMongo.class));
+        this.categories = collection.withDocumentClass(Category.class)
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(new CategoryCodecMongo()), collection.getCodecRegistry()));
+    }
+
+    public Optional<Category> findById(long id) {
+        Bson filter = Filters.and(Filters.eq(CategoryCodecMongo.ID, id), deletion(true));
+        return read(() -> Optional.ofNullable(categories.find(filter).projection(PROJECTION).first()));
+    }
+
+    public Slice<Category> findSlice(boolean alive, Pageable pageable) {
+        int size = pageable.getPageSize();
+        Bson sort = sort(pageable.getSort());
+        List<Category> found = read(() -> categories.find(deletion(alive))
+                .projection(PROJECTION)
+                .sort(sort)
+                .skip((int) pageable.getOffset())
+                .limit(size + 1)
+                .into(new ArrayList<>(size + 1)));
+        boolean hasNext = found.size() > size;
+        return new SliceImpl<>(hasNext ? found.subList(0, size) : found, pageable, hasNext);
+    }
+
+    /**
+     * Keyset windows on the ID, the default order of the list endpoints.
+     * The cursor holds the ID of the last category, as with the other stores.
+     */
+    public Window<Category> scrollById(boolean alive, KeysetScrollPosition position, Sort sort, int size) {
+        boolean ascending = sort.stream().allMatch(Sort.Order::isAscending);
+        Bson filter = deletion(alive);
+        if (!position.isInitial()) {
+            long after = KeysetUtils.after(position, KEY);
+            filter = Filters.and(filter, ascending
+                    ? Filters.gt(CategoryCodecMongo.ID, after)
+                    : Filters.lt(CategoryCodecMongo.ID, after));
+        }
+        Bson query = filter;
+        List<Category> found = read(() -> categories.find(query)
+                .projection(PROJECTION)
+                .sort(ascending ? Sorts.ascending(CategoryCodecMongo.ID) : Sorts.descending(CategoryCodecMongo.ID))
+                .limit(size + 1)
+                .into(new ArrayList<>(size + 1)));
+        return KeysetUtils.toWindow(found, size, KEY, Category::getCategoryId);
+    }
+
+    // Other orders are left to the repository and its keyset queries
+    public static boolean isIdOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() || (orders.size() == 1 && orders.getFirst().getProperty().equals(KEY));
+    }
+
+    private static Bson deletion(boolean alive) {
+        return alive ? Filters.eq(CategoryCodecMongo.DELETION_DATE, null) : Filters.ne(CategoryCodecMongo.DELETION_DATE, null);
+    }
+
+    // The ID breaks ties so that pages do not overlap
+    private static Bson sort(Sort sort) {
+        List<Bson> orders = new ArrayList<>();
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            String field = FIELDS.get(order.getProperty());
+            if (field == null) {
+                throw new BadRequestException("Sort key '" + order.getProperty() + "' is not supported");
+            }
+            byId |= field.equals(CategoryCodecMongo.ID);
+            orders.add(order.isAscending() ? Sorts.ascending(field) : Sorts.descending(field));
+        }
+        if (!byId) {
+            orders.add(Sorts.ascending(CategoryCodecMongo.ID));
+        }
+        return Sorts.orderBy(orders);
+    }
+
+    // Driver exceptions are translated as MongoTemplate does
+    private <T> T read(Supplier<T> query) {
+        try {
+            return query.get();
+        } catch (RuntimeException e) {
+            DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+}
@@ -3,7 +3,7 @@ package com.pixelpolo.hexagon.infrastructure.mongo.entity;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -23,14 +23,23 @@ import lombok.ToString;
 @NoArgsConstructor
 @Builder
 @Document(collection = "category")
+// Name uniqueness only applies to live categories, names of soft deleted ones can be reused
+@CompoundIndex(name = CategoryEntityMongo.NAME_INDEX, def = "{'name': 1}", unique = true,
+        partialFilter = "{'deletionDate': null}")
 public class CategoryEntityMongo {
 
+    public static final String NAME_INDEX = "name_live";
+
     @Id
     private Long categoryId;
 
-    @Indexed(unique = true)
     private String name;
 
     private LocalDateTime deletionDate;
 
+    // Bumped by the conditional template updates, which also check it (optimistic locking)
+    private Long version;
+
+    private LocalDateTime updatedAt;
+
 }
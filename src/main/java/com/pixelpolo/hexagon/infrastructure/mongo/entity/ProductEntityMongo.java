@@ -0,0 +1,47 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity representing a Product in the MongoDB database.
+ * The category is referenced by ID, the compound index serves the listing by category ordered by ID.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "product")
+@CompoundIndex(name = "categoryId_id", def = "{'categoryId': 1, '_id': 1}")
+public class ProductEntityMongo {
+
+    @Id
+    private Long productId;
+
+    private Long categoryId;
+
+    @Indexed(unique = true)
+    private String name;
+
+    private String description;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime deletionDate;
+
+}
@@ -1,7 +1,10 @@
 package com.pixelpolo.hexagon.infrastructure.mongo.mapper;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
@@ -16,10 +19,16 @@ public interface CategoryMapperMongo {
 
     Category toDomain(CategoryEntityMongo entity);
 
+    List<Category> toDomainList(List<CategoryEntityMongo> entities);
+
     default Page<Category> toDomainPage(Page<CategoryEntityMongo> entityPage) {
         return entityPage.map(this::toDomain);
     }
 
+    default Window<Category> toDomainWindow(Window<CategoryEntityMongo> entityWindow) {
+        return entityWindow.map(this::toDomain);
+    }
+
     default Page<CategoryEntityMongo> toEntityPage(Page<Category> categoryPage) {
         return categoryPage.map(this::toEntity);
     }
@@ -0,0 +1,26 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
+
+/**
+ * Mapper interface for converting between Product domain model and ProductEntityMongo.
+ * Only the category ID is mapped, the adapter loads the categories.
+ */
+@Mapper(componentModel = "spring")
+public interface ProductMapperMongo {
+
+    @Mapping(target = "categoryId", source = "category.categoryId")
+    ProductEntityMongo toEntity(Product product);
+
+    @Mapping(target = "category.categoryId", source = "categoryId")
+    Product toDomain(ProductEntityMongo entity);
+
+    List<Product> toDomainList(List<ProductEntityMongo> entities);
+
+}
@@ -2,8 +2,12 @@ package com.pixelpolo.hexagon.infrastructure.mongo.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +24,14 @@ public interface CategoryRepositoryMongo extends MongoRepository<CategoryEntityM
 
     Page<CategoryEntityMongo> findAllByDeletionDateIsNotNull(Pageable pageable);
 
+    long countByDeletionDateIsNull();
+
+    long countByDeletionDateIsNotNull();
+
+    Window<CategoryEntityMongo> findAllByDeletionDateIsNull(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<CategoryEntityMongo> findAllByDeletionDateIsNotNull(ScrollPosition position, Sort sort, Limit limit);
+
     Optional<CategoryEntityMongo> findByCategoryIdAndDeletionDateIsNull(Long id);
 
     Optional<CategoryEntityMongo> findByNameAndDeletionDateIsNull(String name);
@@ -0,0 +1,19 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
+
+/**
+ * MongoDB Repository interface for Product entity.
+ * List queries are built with MongoTemplate in the adapter to project and batch-load categories.
+ */
+@Repository
+public interface ProductRepositoryMongo extends MongoRepository<ProductEntityMongo, Long> {
+
+    Optional<ProductEntityMongo> findByProductIdAndDeletionDateIsNull(Long id);
+
+}
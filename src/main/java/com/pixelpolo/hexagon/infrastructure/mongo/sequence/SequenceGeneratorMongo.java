@@ -0,0 +1,92 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.sequence;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * SequenceGeneratorMongo allocates numeric IDs for MongoDB collections (NoSql doesn't support auto-increment).
+ * It uses a hi/lo strategy: blocks of IDs are reserved atomically in the "sequence" collection,
+ * then handed out from memory without locking. Only the refill of an exhausted block takes a lock,
+ * a ReentrantLock rather than synchronized so that virtual threads are not pinned during the database call.
+ * Blocks are persisted, so IDs stay unique across restarts and instances (unused IDs of a block are skipped).
+ */
+@Component
+@Profile("mongo")
+public class SequenceGeneratorMongo {
+
+    static final String SEQUENCE_COLLECTION = "sequence";
+    static final String SEQUENCE_FIELD = "seq";
+
+    private final MongoTemplate mongoTemplate;
+    private final long blockSize;
+    private final ConcurrentMap<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    public SequenceGeneratorMongo(MongoTemplate mongoTemplate, @Value("${mongo.sequence.block-size}") long blockSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockSize = blockSize;
+    }
+
+    public long nextId(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        AtomicReference<Block> current = blocks.computeIfAbsent(collection, c -> new AtomicReference<>(Block.EXHAUSTED));
+        while (true) {
+            Block block = current.get();
+            long id = block.next().getAndIncrement();
+            if (id <= block.max()) {
+                return id;
+            }
+            refill(collection, current, block);
+        }
+    }
+
+    private void refill(String collection, AtomicReference<Block> current, Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current.get() != exhausted) {
+                return; // Already refilled by another thread
+            }
+            long max = reserveBlock(collection);
+            current.set(new Block(new AtomicLong(max - blockSize + 1), max));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserveBlock(String collection) {
+        Query sequence = Query.query(Criteria.where("_id").is(collection));
+        // Never hand out IDs below existing documents (seeded data, lost sequence)
+        Document last = mongoTemplate.findOne(
+                new Query().with(Sort.by(Sort.Direction.DESC, "_id")).limit(1), Document.class, collection);
+        if (last != null && last.get("_id") instanceof Number lastId) {
+            mongoTemplate.upsert(sequence, new Update().max(SEQUENCE_FIELD, lastId.longValue()), SEQUENCE_COLLECTION);
+        }
+        Document reserved = mongoTemplate.findAndModify(
+                sequence,
+                new Update().inc(SEQUENCE_FIELD, blockSize),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Document.class,
+                SEQUENCE_COLLECTION);
+        return ((Number) reserved.get(SEQUENCE_FIELD)).longValue();
+    }
+
+    // IDs from next to max (inclusive), next keeps growing once exhausted
+    private record Block(AtomicLong next, long max) {
+        private static final Block EXHAUSTED = new Block(new AtomicLong(1), 0);
+    }
+
+}
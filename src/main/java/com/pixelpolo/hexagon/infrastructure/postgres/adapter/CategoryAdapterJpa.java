@@ -1,81 +1,256 @@
 package com.pixelpolo.hexagon.infrastructure.postgres.adapter;
 
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
 import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
 import com.pixelpolo.hexagon.infrastructure.postgres.entity.CategoryEntityJpa;
 import com.pixelpolo.hexagon.infrastructure.postgres.mapper.CategoryMapperJpa;
 import com.pixelpolo.hexagon.infrastructure.postgres.repository.CategoryRepositoryJpa;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 
 /**
  * CategoryAdapterJpa is a JPA implementation of the CategoryPort interface.
  * It serves as an adapter between the domain layer and the PostgreSQL database.
  * It uses CategoryRepositoryJpa to perform database operations and
  * CategoryMapperJpa to convert between Category domain models and CategoryEntityJpa database entities.
+ * Reads run in read-only transactions, which are served by a replica when replicas are configured.
+ * Writes and the lookups following a failed write stay on the primary.
+ * A write runs a single statement, the failed update and its lookup share one transaction.
+ * Inside inTransaction (e.g. a bulk update and its per-item retries), each write runs in a savepoint,
+ * a failed write is rolled back alone and the others commit together.
+ * Transactions are bounded here rather than in the domain services, which also run on MongoDB and in memory.
  */
 @Component
-@RequiredArgsConstructor
 @Profile("postgres")
 public class CategoryAdapterJpa implements CategoryPort {
 
     private final CategoryRepositoryJpa categoryRepositoryJpa;
     private final CategoryMapperJpa categoryMapperJpa;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate savepoint;
 
+    public CategoryAdapterJpa(CategoryRepositoryJpa categoryRepositoryJpa, CategoryMapperJpa categoryMapperJpa,
+                              EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.categoryRepositoryJpa = categoryRepositoryJpa;
+        this.categoryMapperJpa = categoryMapperJpa;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // A savepoint within a running transaction, a transaction of its own otherwise
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    // Unconditional write of the whole category, at the version following the given one
     @Override
     public Category save(Category category) {
         CategoryEntityJpa entity = categoryMapperJpa.toEntity(category);
+        entity.setVersion(category.getVersion() == null ? 0 : category.getVersion() + 1);
         categoryRepositoryJpa.save(entity);
         return categoryMapperJpa.toDomain(entity);
     }
 
     @Override
+    public Category insert(Category category) {
+        CategoryEntityJpa entity = categoryRepositoryJpa.insertIfNameAbsent(category.getName())
+                .orElseThrow(() -> new CategoryExistException(category.getName()));
+        return categoryMapperJpa.toDomain(entity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NESTED)
+    public Category update(long id, Category category) {
+        try {
+            CategoryEntityJpa entity = categoryRepositoryJpa.updateName(id, category.getName(), category.getVersion())
+                    .orElseThrow(() -> notUpdated(id, category.getVersion()));
+            return categoryMapperJpa.toDomain(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new CategoryExistException(category.getName());
+        }
+    }
+
+    @Override
+    public List<Category> insertAll(List<Category> categories) {
+        String[] names = categories.stream().map(Category::getName).toArray(String[]::new);
+        return categoryMapperJpa.toDomainList(categoryRepositoryJpa.insertAllIfNameAbsent(names));
+    }
+
+    // Names repeated in the batch are left out of the statement, the caller resolves them one by one
+    @Override
+    public List<Category> updateAll(List<Category> categories) {
+        Map<String, Long> occurrences = categories.stream()
+                .collect(Collectors.groupingBy(Category::getName, Collectors.counting()));
+        List<Category> batch = categories.stream().filter(c -> occurrences.get(c.getName()) == 1).toList();
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = batch.stream().map(Category::getCategoryId).toArray(Long[]::new);
+        String[] names = batch.stream().map(Category::getName).toArray(String[]::new);
+        try {
+            return savepoint.execute(
+                    status -> categoryMapperJpa.toDomainList(categoryRepositoryJpa.updateAllNames(ids, names)));
+        } catch (DataIntegrityViolationException e) {
+            return List.of(); // A name taken concurrently, the statement is atomic and nothing was updated
+        }
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transaction.execute(status -> work.get());
+    }
+
+    @Override
+    public List<Long> softDeleteAll(List<Long> ids) {
+        return categoryRepositoryJpa.softDeleteAllByIds(ids);
+    }
+
+    @Override
+    public List<Long> hardDeleteAll(List<Long> ids) {
+        return categoryRepositoryJpa.hardDeleteAllByIds(ids);
+    }
+
+    @Override
+    public List<Long> findReferencedIds(List<Long> ids) {
+        return categoryRepositoryJpa.findReferencedIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<Category> findAll(Pageable pageable) {
         Page<CategoryEntityJpa> entities = categoryRepositoryJpa.findAllByDeletionDateIsNull(pageable);
         return categoryMapperJpa.toDomainPage(entities);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Category> findAllDeleted(Pageable pageable) {
         Page<CategoryEntityJpa> entities = categoryRepositoryJpa.findAllByDeletionDateIsNotNull(pageable);
         return categoryMapperJpa.toDomainPage(entities);
     }
 
     @Override
-    public Category findById(long id) {
-        CategoryEntityJpa entity = categoryRepositoryJpa.findByCategoryIdAndDeletionDateIsNull(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        return categoryMapperJpa.toDomain(entity);
+    @Transactional(readOnly = true)
+    public Slice<Category> findSlice(Pageable pageable) {
+        Slice<CategoryEntityJpa> entities = categoryRepositoryJpa.findSliceByDeletionDateIsNull(pageable);
+        return categoryMapperJpa.toDomainSlice(entities);
     }
 
     @Override
-    public Category findByName(String name) {
-        CategoryEntityJpa entity = categoryRepositoryJpa.findByNameAndDeletionDateIsNull(name)
-                .orElseThrow(() -> new CategoryNotFoundException(name));
-        return categoryMapperJpa.toDomain(entity);
+    @Transactional(readOnly = true)
+    public Slice<Category> findDeletedSlice(Pageable pageable) {
+        Slice<CategoryEntityJpa> entities = categoryRepositoryJpa.findSliceByDeletionDateIsNotNull(pageable);
+        return categoryMapperJpa.toDomainSlice(entities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count() {
+        return categoryRepositoryJpa.countByDeletionDateIsNull();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDeleted() {
+        return categoryRepositoryJpa.countByDeletionDateIsNotNull();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Category> findAll(KeysetScrollPosition position, Sort sort, int size) {
+        try {
+            Window<CategoryEntityJpa> entities = categoryRepositoryJpa.findAllByDeletionDateIsNull(position, sort, Limit.of(size));
+            return categoryMapperJpa.toDomainWindow(entities);
+        } catch (InvalidDataAccessApiUsageException e) {
+            throw new BadRequestException("Invalid cursor"); // A cursor key of the wrong type for its sort property
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Category> findAllDeleted(KeysetScrollPosition position, Sort sort, int size) {
+        try {
+            Window<CategoryEntityJpa> entities = categoryRepositoryJpa.findAllByDeletionDateIsNotNull(position, sort, Limit.of(size));
+            return categoryMapperJpa.toDomainWindow(entities);
+        } catch (InvalidDataAccessApiUsageException e) {
+            throw new BadRequestException("Invalid cursor"); // A cursor key of the wrong type for its sort property
+        }
+    }
+
+    // The cursor lives as long as the read-only transaction, each entity is detached once read
+    // so that the persistence context does not grow with the number of rows
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Category> action) {
+        try (Stream<CategoryEntityJpa> entities = categoryRepositoryJpa.streamAllByDeletionDateIsNullOrderByCategoryId()) {
+            entities.forEach(entity -> {
+                entityManager.detach(entity);
+                action.accept(categoryMapperJpa.toDomain(entity));
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Category> findById(long id) {
+        return categoryRepositoryJpa.findByCategoryIdAndDeletionDateIsNull(id).map(categoryMapperJpa::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Category> findByName(String name) {
+        return categoryRepositoryJpa.findByNameAndDeletionDateIsNull(name).map(categoryMapperJpa::toDomain);
     }
 
     @Override
     public void softDelete(long id) {
-        CategoryEntityJpa entity = categoryRepositoryJpa.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        entity.setDeletionDate(LocalDateTime.now());
-        categoryRepositoryJpa.save(entity);
+        // Single conditional update, no row means the category does not exist or is already deleted
+        if (categoryRepositoryJpa.softDeleteById(id) == 0) {
+            throw new CategoryNotFoundException(id);
+        }
     }
 
     @Override
     public void hardDelete(long id) {
-        CategoryEntityJpa entity = categoryRepositoryJpa.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-        categoryRepositoryJpa.delete(entity);
+        if (categoryRepositoryJpa.hardDeleteById(id) == 0) {
+            throw new CategoryNotFoundException(id);
+        }
+    }
+
+    // Only looked up when the conditional update did not match
+    private RuntimeException notUpdated(long id, Long version) {
+        if (version != null && categoryRepositoryJpa.findByCategoryIdAndDeletionDateIsNull(id).isPresent()) {
+            return new CategoryVersionMismatchException(id, version);
+        }
+        return new CategoryNotFoundException(id);
     }
 
 }
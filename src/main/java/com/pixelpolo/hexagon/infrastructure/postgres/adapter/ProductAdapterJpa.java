@@ -0,0 +1,132 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pixelpolo.hexagon.common.exception.product.ProductExistException;
+import com.pixelpolo.hexagon.common.exception.product.ProductNotFoundException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.port.out.ProductPort;
+import com.pixelpolo.hexagon.infrastructure.postgres.entity.ProductEntityJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.mapper.ProductMapperJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.projection.ProductSummaryJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.repository.ProductRepositoryJpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductAdapterJpa is a JPA implementation of the ProductPort interface.
+ * Writes are single native statements, the category given by the service is reused for the result.
+ * Reads fetch the category in the same query, lists select a projection only.
+ * Reads run in read-only transactions, as in CategoryAdapterJpa.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("postgres")
+public class ProductAdapterJpa implements ProductPort {
+
+    private static final String KEY = "productId";
+
+    private final ProductRepositoryJpa productRepositoryJpa;
+    private final ProductMapperJpa productMapperJpa;
+    private final EntityManager entityManager;
+
+    @Override
+    public Product insert(Product product) {
+        ProductEntityJpa entity = productRepositoryJpa.insertIfNameAbsent(
+                        product.getCategory().getCategoryId(), product.getName(), product.getDescription())
+                .orElseThrow(() -> new ProductExistException(product.getName()));
+        return withCategory(entity, product);
+    }
+
+    @Override
+    public Product update(long id, Product product) {
+        try {
+            ProductEntityJpa entity = productRepositoryJpa.updateById(
+                            id, product.getCategory().getCategoryId(), product.getName(), product.getDescription())
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            return withCategory(entity, product);
+        } catch (DataIntegrityViolationException e) {
+            throw new ProductExistException(product.getName());
+        }
+    }
+
+    // Names are distinct in the batch, each returned row gets the category of the product with its name
+    @Override
+    public List<Product> insertAll(List<Product> products) {
+        Long[] categoryIds = products.stream().map(p -> p.getCategory().getCategoryId()).toArray(Long[]::new);
+        String[] names = products.stream().map(Product::getName).toArray(String[]::new);
+        String[] descriptions = products.stream().map(Product::getDescription).toArray(String[]::new);
+        Map<String, Product> requested = products.stream()
+                .collect(Collectors.toMap(Product::getName, Function.identity(), (first, next) -> first));
+        return productRepositoryJpa.insertAllIfNameAbsent(categoryIds, names, descriptions).stream()
+                .map(entity -> withCategory(entity, requested.get(entity.getName())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Product> findAll(Long categoryId, KeysetScrollPosition position, int size) {
+        long after = KeysetUtils.after(position, KEY);
+        Limit limit = Limit.of(size + 1);
+        List<ProductSummaryJpa> summaries = categoryId == null
+                ? productRepositoryJpa.findSummaries(after, limit)
+                : productRepositoryJpa.findSummariesByCategory(categoryId, after, limit);
+        return KeysetUtils.toWindow(productMapperJpa.toDomainList(summaries), size, KEY, Product::getProductId);
+    }
+
+    // Products are detached once read, only the categories (a few rows) stay in the persistence context
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Product> action) {
+        try (Stream<ProductEntityJpa> entities = productRepositoryJpa.streamAllLive()) {
+            entities.forEach(entity -> {
+                entityManager.detach(entity);
+                action.accept(productMapperJpa.toDomain(entity));
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Product findById(long id) {
+        ProductEntityJpa entity = productRepositoryJpa.findByProductIdAndDeletionDateIsNull(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        return productMapperJpa.toDomain(entity);
+    }
+
+    @Override
+    public void softDelete(long id) {
+        if (productRepositoryJpa.softDeleteById(id) == 0) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    @Override
+    public void hardDelete(long id) {
+        if (productRepositoryJpa.hardDeleteById(id) == 0) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    private Product withCategory(ProductEntityJpa entity, Product product) {
+        Product written = productMapperJpa.toDomainWithoutCategory(entity);
+        written.setCategory(product.getCategory());
+        return written;
+    }
+
+}
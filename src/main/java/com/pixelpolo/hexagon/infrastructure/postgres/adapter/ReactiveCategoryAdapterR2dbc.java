@@ -0,0 +1,225 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.common.utils.KeysetUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.ReactiveCategoryPort;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveCategoryAdapterR2dbc is an R2DBC implementation of the ReactiveCategoryPort interface.
+ * It runs the same single-statement SQL as CategoryRepositoryJpa through the DatabaseClient,
+ * the rows are mapped straight to the domain model, there is no entity nor persistence context.
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("postgres & reactive")
+public class ReactiveCategoryAdapterR2dbc implements ReactiveCategoryPort {
+
+    private static final String KEY = "categoryId";
+
+    // Rows per round trip of the export cursor
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Category> insert(Category category) {
+        return databaseClient.sql("""
+                        INSERT INTO "category" ("name")
+                        VALUES (:name)
+                        ON CONFLICT ("name") WHERE "deletion_date" IS NULL DO NOTHING
+                        RETURNING *
+                        """)
+                .bind("name", category.getName())
+                .map(ReactiveCategoryAdapterR2dbc::toDomain)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new CategoryExistException(category.getName())));
+    }
+
+    @Override
+    public Mono<Category> update(long id, Category category) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        UPDATE "category"
+                        SET "name" = :name, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+                        WHERE "category_id" = :id AND "deletion_date" IS NULL
+                          AND "version" = COALESCE(CAST(:version AS BIGINT), "version")
+                        RETURNING *
+                        """)
+                .bind("name", category.getName())
+                .bind("id", id);
+        spec = category.getVersion() == null ? spec.bindNull("version", Long.class) : spec.bind("version", category.getVersion());
+        return spec.map(ReactiveCategoryAdapterR2dbc::toDomain)
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, e -> new CategoryExistException(category.getName()))
+                .switchIfEmpty(Mono.defer(() -> notUpdated(id, category.getVersion())));
+    }
+
+    @Override
+    public Flux<Category> insertAll(List<Category> categories) {
+        String[] names = categories.stream().map(Category::getName).toArray(String[]::new);
+        return databaseClient.sql("""
+                        INSERT INTO "category" ("name")
+                        SELECT unnest(CAST(:names AS VARCHAR[]))
+                        ON CONFLICT ("name") WHERE "deletion_date" IS NULL DO NOTHING
+                        RETURNING *
+                        """)
+                .bind("names", names)
+                .map(ReactiveCategoryAdapterR2dbc::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<Long> softDeleteAll(List<Long> ids) {
+        return databaseClient.sql("""
+                        UPDATE "category"
+                        SET "deletion_date" = LOCALTIMESTAMP, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+                        WHERE "category_id" IN (:ids) AND "deletion_date" IS NULL
+                        RETURNING "category_id"
+                        """)
+                .bind("ids", ids)
+                .map(row -> row.get("category_id", Long.class))
+                .all();
+    }
+
+    // Categories still referenced by products are skipped instead of failing the whole statement
+    @Override
+    public Flux<Long> hardDeleteAll(List<Long> ids) {
+        return databaseClient.sql("""
+                        DELETE FROM "category" c
+                        WHERE c."category_id" IN (:ids)
+                          AND NOT EXISTS (SELECT 1 FROM "product" p WHERE p."category_id" = c."category_id")
+                        RETURNING c."category_id"
+                        """)
+                .bind("ids", ids)
+                .map(row -> row.get("category_id", Long.class))
+                .all();
+    }
+
+    @Override
+    public Flux<Long> findReferencedIds(List<Long> ids) {
+        return databaseClient.sql("""
+                        SELECT DISTINCT p."category_id" FROM "product" p
+                        WHERE p."category_id" IN (:ids)
+                        """)
+                .bind("ids", ids)
+                .map(row -> row.get("category_id", Long.class))
+                .all();
+    }
+
+    // One extra row tells if there is a next window
+    @Override
+    public Mono<Window<Category>> findAll(KeysetScrollPosition position, int size) {
+        return Mono.fromSupplier(() -> KeysetUtils.after(position, KEY))
+                .flatMap(after -> databaseClient.sql("""
+                                SELECT * FROM "category"
+                                WHERE "deletion_date" IS NULL AND "category_id" > :after
+                                ORDER BY "category_id"
+                                LIMIT :limit
+                                """)
+                        .bind("after", after)
+                        .bind("limit", size + 1)
+                        .map(ReactiveCategoryAdapterR2dbc::toDomain)
+                        .all()
+                        .collectList())
+                .map(categories -> KeysetUtils.toWindow(categories, size, KEY, Category::getCategoryId));
+    }
+
+    @Override
+    public Flux<Category> streamAll() {
+        return databaseClient.sql("""
+                        SELECT * FROM "category"
+                        WHERE "deletion_date" IS NULL
+                        ORDER BY "category_id"
+                        """)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveCategoryAdapterR2dbc::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Category> findById(long id) {
+        return databaseClient.sql("""
+                        SELECT * FROM "category"
+                        WHERE "category_id" = :id AND "deletion_date" IS NULL
+                        """)
+                .bind("id", id)
+                .map(ReactiveCategoryAdapterR2dbc::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Void> softDelete(long id) {
+        // Single conditional update, no row means the category does not exist or is already deleted
+        return databaseClient.sql("""
+                        UPDATE "category"
+                        SET "deletion_date" = LOCALTIMESTAMP, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+                        WHERE "category_id" = :id AND "deletion_date" IS NULL
+                        """)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0 ? Mono.<Void>error(new CategoryNotFoundException(id)) : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Void> hardDelete(long id) {
+        return databaseClient.sql("""
+                        DELETE FROM "category"
+                        WHERE "category_id" = :id
+                        """)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0 ? Mono.<Void>error(new CategoryNotFoundException(id)) : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return databaseClient.sql("""
+                        SELECT count(*) FROM "category"
+                        WHERE "deletion_date" IS NULL
+                        """)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // Only looked up when the conditional update did not match
+    private Mono<Category> notUpdated(long id, Long version) {
+        if (version == null) {
+            return Mono.error(new CategoryNotFoundException(id));
+        }
+        return findById(id)
+                .hasElement()
+                .flatMap(exists -> Mono.<Category>error(exists
+                                                               ? new CategoryVersionMismatchException(id, version)
+                                                               : new CategoryNotFoundException(id)));
+    }
+
+    private static Category toDomain(Readable row) {
+        return Category.builder()
+                .categoryId(row.get("category_id", Long.class))
+                .name(row.get("name", String.class))
+                .deletionDate(row.get("deletion_date", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+}
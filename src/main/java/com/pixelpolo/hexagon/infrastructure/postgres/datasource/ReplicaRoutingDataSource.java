@@ -0,0 +1,160 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends the read-only transactions to the replicas, everything else to the primary.
+ * The connection is only fetched on the first statement, once the transaction has marked it read-only,
+ * so @Transactional(readOnly = true) is enough to pick a replica. Reads of a read-write transaction
+ * stay on the primary and see its writes.
+ * Replicas are used in turn. A replica is ejected when it refuses a connection or when it replays
+ * the primary with more than the max lag, then admitted again by the next passing health check.
+ * Reads go to the primary when no replica is healthy, or when the thread is pinned to it (see pinToPrimary).
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    // 0 when the replica has replayed all it received (e.g. idle primary) or is not a replica (stand-in database),
+    // infinite when no WAL receiver is running: the replica no longer receives anything and would not catch up
+    static final String LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0
+                        WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN 'Infinity'::float8
+                        WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())::float8, 0) END
+            """;
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag, Duration checkInterval) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        setReadOnlyDataSource(new ReadOnlyDataSource());
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health-check").daemon().factory());
+        // Replicas are healthy until a check or a connection proves otherwise
+        long interval = checkInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends the reads of the current thread to the primary until the returned pin is closed,
+     * e.g. for a client that has just written and must read its own writes. Pins may be nested.
+     */
+    public static Pin pinToPrimary() {
+        if (isPinnedToPrimary()) {
+            return () -> { };
+        }
+        PINNED.set(Boolean.TRUE);
+        return PINNED::remove;
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    // Replaces the primary bean, whose inferred close method is then this one: closes the primary and the replicas
+    @Override
+    public void close() throws Exception {
+        healthChecks.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    void checkReplicas() {
+        replicas.forEach(replica -> replica.healthy = lagSeconds(replica) <= maxLagSeconds);
+    }
+
+    private double lagSeconds(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            return result.next() ? result.getDouble(1) : 0;
+        } catch (SQLException e) {
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    // Round robin over the healthy replicas, a refused connection ejects the replica and the next one is tried
+    private Connection readConnection() throws SQLException {
+        if (isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.healthy = false;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+    }
+
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readConnection();
+        }
+
+    }
+
+}
@@ -2,6 +2,8 @@ package com.pixelpolo.hexagon.infrastructure.postgres.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -33,10 +35,18 @@ public class CategoryEntityJpa {
     @Column(updatable = false, nullable = false)
     private Long categoryId;
 
-    @Column(length = 128, nullable = false, unique = true)
+    @Column(length = 128, nullable = false)
     private String name;
 
     @Column
     private LocalDateTime deletionDate;
 
+    // Bumped by the conditional native updates, which also check it (optimistic locking)
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
 }
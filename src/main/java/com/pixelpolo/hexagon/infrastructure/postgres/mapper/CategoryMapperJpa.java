@@ -1,7 +1,11 @@
 package com.pixelpolo.hexagon.infrastructure.postgres.mapper;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.infrastructure.postgres.entity.CategoryEntityJpa;
@@ -16,10 +20,20 @@ public interface CategoryMapperJpa {
 
      Category toDomain(CategoryEntityJpa entity);
 
+     List<Category> toDomainList(List<CategoryEntityJpa> entities);
+
     default Page<Category> toDomainPage(Page<CategoryEntityJpa> entityPage) {
         return entityPage.map(this::toDomain);
     }
 
+    default Slice<Category> toDomainSlice(Slice<CategoryEntityJpa> entitySlice) {
+        return entitySlice.map(this::toDomain);
+    }
+
+    default Window<Category> toDomainWindow(Window<CategoryEntityJpa> entityWindow) {
+        return entityWindow.map(this::toDomain);
+    }
+
     default Page<CategoryEntityJpa> toEntityPage(Page<Category> categoryPage) {
         return categoryPage.map(this::toEntity);
     }
@@ -0,0 +1,30 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.infrastructure.postgres.entity.ProductEntityJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.projection.ProductSummaryJpa;
+
+/**
+ * Mapper interface for converting between Product domain model and ProductEntityJpa.
+ */
+@Mapper(componentModel = "spring", uses = CategoryMapperJpa.class)
+public interface ProductMapperJpa {
+
+    Product toDomain(ProductEntityJpa entity);
+
+    // The category is left unmapped so that its lazy proxy is never initialized
+    @Mapping(target = "category", ignore = true)
+    Product toDomainWithoutCategory(ProductEntityJpa entity);
+
+    @Mapping(target = "category.categoryId", source = "categoryId")
+    @Mapping(target = "category.name", source = "categoryName")
+    Product toDomain(ProductSummaryJpa summary);
+
+    List<Product> toDomainList(List<ProductSummaryJpa> summaries);
+
+}
@@ -0,0 +1,17 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.projection;
+
+/**
+ * Projection of a Product for list queries.
+ * Only the listed columns are selected, the category name comes from the same join.
+ */
+public interface ProductSummaryJpa {
+
+    Long getProductId();
+
+    String getName();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+}
@@ -1,25 +1,151 @@
 package com.pixelpolo.hexagon.infrastructure.postgres.repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.pixelpolo.hexagon.infrastructure.postgres.entity.CategoryEntityJpa;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * JPA Repository interface for Category entity.
  * Extends JpaRepository to provide CRUD operations and pagination support.
  */
 public interface CategoryRepositoryJpa extends JpaRepository<CategoryEntityJpa, Long> {
 
+    // Rows per round trip of the export cursors
+    String STREAM_FETCH_SIZE = "500";
+
     Page<CategoryEntityJpa> findAllByDeletionDateIsNull(Pageable pageable);
 
     Page<CategoryEntityJpa> findAllByDeletionDateIsNotNull(Pageable pageable);
 
+    Slice<CategoryEntityJpa> findSliceByDeletionDateIsNull(Pageable pageable);
+
+    Slice<CategoryEntityJpa> findSliceByDeletionDateIsNotNull(Pageable pageable);
+
+    long countByDeletionDateIsNull();
+
+    long countByDeletionDateIsNotNull();
+
+    Window<CategoryEntityJpa> findAllByDeletionDateIsNull(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<CategoryEntityJpa> findAllByDeletionDateIsNotNull(ScrollPosition position, Sort sort, Limit limit);
+
+    // Server-side cursor for exports, rows are fetched by batches and the entities are not dirty-checked
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<CategoryEntityJpa> streamAllByDeletionDateIsNullOrderByCategoryId();
+
     Optional<CategoryEntityJpa> findByCategoryIdAndDeletionDateIsNull(Long id);
 
     Optional<CategoryEntityJpa> findByNameAndDeletionDateIsNull(String name);
 
+    // Empty if the name is already taken
+    @Transactional
+    @Query(value = """
+            INSERT INTO "category" ("name")
+            VALUES (:name)
+            ON CONFLICT ("name") WHERE "deletion_date" IS NULL DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<CategoryEntityJpa> insertIfNameAbsent(@Param("name") String name);
+
+    // Empty if the category does not exist or is not at the expected version (any version if null),
+    // fails with a constraint violation if the name is already taken
+    @Transactional
+    @Query(value = """
+            UPDATE "category"
+            SET "name" = :name, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+            WHERE "category_id" = :id AND "deletion_date" IS NULL
+              AND "version" = COALESCE(CAST(:version AS BIGINT), "version")
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<CategoryEntityJpa> updateName(@Param("id") Long id, @Param("name") String name, @Param("version") Long version);
+
+    // Bulk operations in a single statement, arrays are expanded with unnest
+
+    // Only the inserted rows are returned, taken names are skipped
+    @Transactional
+    @Query(value = """
+            INSERT INTO "category" ("name")
+            SELECT unnest(CAST(:names AS VARCHAR[]))
+            ON CONFLICT ("name") WHERE "deletion_date" IS NULL DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    List<CategoryEntityJpa> insertAllIfNameAbsent(@Param("names") String[] names);
+
+    // Names taken by another live category are skipped, names repeated in the batch
+    // or taken concurrently still fail with a constraint violation
+    @Transactional
+    @Query(value = """
+            UPDATE "category" c
+            SET "name" = i."name", "version" = c."version" + 1, "updated_at" = LOCALTIMESTAMP
+            FROM unnest(CAST(:ids AS BIGINT[]), CAST(:names AS VARCHAR[])) AS i("category_id", "name")
+            WHERE c."category_id" = i."category_id" AND c."deletion_date" IS NULL
+              AND NOT EXISTS (SELECT 1 FROM "category" o
+                              WHERE o."name" = i."name" AND o."deletion_date" IS NULL
+                                AND o."category_id" <> i."category_id")
+            RETURNING c.*
+            """, nativeQuery = true)
+    List<CategoryEntityJpa> updateAllNames(@Param("ids") Long[] ids, @Param("names") String[] names);
+
+    @Transactional
+    @Query(value = """
+            UPDATE "category"
+            SET "deletion_date" = LOCALTIMESTAMP, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+            WHERE "category_id" IN (:ids) AND "deletion_date" IS NULL
+            RETURNING "category_id"
+            """, nativeQuery = true)
+    List<Long> softDeleteAllByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE "category"
+            SET "deletion_date" = LOCALTIMESTAMP, "version" = "version" + 1, "updated_at" = LOCALTIMESTAMP
+            WHERE "category_id" = :id AND "deletion_date" IS NULL
+            """, nativeQuery = true)
+    int softDeleteById(@Param("id") long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM "category"
+            WHERE "category_id" = :id
+            """, nativeQuery = true)
+    int hardDeleteById(@Param("id") long id);
+
+    // Categories still referenced by products are skipped instead of failing the whole statement
+    @Transactional
+    @Query(value = """
+            DELETE FROM "category" c
+            WHERE c."category_id" IN (:ids)
+              AND NOT EXISTS (SELECT 1 FROM "product" p WHERE p."category_id" = c."category_id")
+            RETURNING c."category_id"
+            """, nativeQuery = true)
+    List<Long> hardDeleteAllByIds(@Param("ids") List<Long> ids);
+
+    @Query(value = """
+            SELECT DISTINCT p."category_id" FROM "product" p
+            WHERE p."category_id" IN (:ids)
+            """, nativeQuery = true)
+    List<Long> findReferencedIds(@Param("ids") List<Long> ids);
+
 }
@@ -0,0 +1,111 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pixelpolo.hexagon.infrastructure.postgres.entity.ProductEntityJpa;
+import com.pixelpolo.hexagon.infrastructure.postgres.projection.ProductSummaryJpa;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * JPA Repository interface for Product entity.
+ * The lazy category is fetched in the same query (entity graph or join) to avoid N+1 selects.
+ */
+public interface ProductRepositoryJpa extends JpaRepository<ProductEntityJpa, Long> {
+
+    @EntityGraph(attributePaths = "category")
+    Optional<ProductEntityJpa> findByProductIdAndDeletionDateIsNull(Long productId);
+
+    // Keyset pagination on the primary key, the limit is the page size + 1
+    @Query("""
+            SELECT p.productId AS productId, p.name AS name, c.categoryId AS categoryId, c.name AS categoryName
+            FROM ProductEntityJpa p JOIN p.category c
+            WHERE p.deletionDate IS NULL AND p.productId > :after
+            ORDER BY p.productId
+            """)
+    List<ProductSummaryJpa> findSummaries(@Param("after") long after, Limit limit);
+
+    // Served by the (category_id, product_id) index
+    @Query("""
+            SELECT p.productId AS productId, p.name AS name, c.categoryId AS categoryId, c.name AS categoryName
+            FROM ProductEntityJpa p JOIN p.category c
+            WHERE p.deletionDate IS NULL AND p.category.categoryId = :categoryId AND p.productId > :after
+            ORDER BY p.productId
+            """)
+    List<ProductSummaryJpa> findSummariesByCategory(
+            @Param("categoryId") long categoryId, @Param("after") long after, Limit limit);
+
+    // Server-side cursor for exports, the category is fetched in the same row
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CategoryRepositoryJpa.STREAM_FETCH_SIZE),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("""
+            SELECT p FROM ProductEntityJpa p JOIN FETCH p.category
+            WHERE p.deletionDate IS NULL
+            ORDER BY p.productId
+            """)
+    Stream<ProductEntityJpa> streamAllLive();
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO "product" ("category_id", "name", "description")
+            VALUES (:categoryId, :name, CAST(:description AS VARCHAR))
+            ON CONFLICT ("name") DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<ProductEntityJpa> insertIfNameAbsent(
+            @Param("categoryId") long categoryId, @Param("name") String name, @Param("description") String description);
+
+    // Only the inserted rows are returned, taken names are skipped
+    @Transactional
+    @Query(value = """
+            INSERT INTO "product" ("category_id", "name", "description")
+            SELECT * FROM unnest(CAST(:categoryIds AS BIGINT[]), CAST(:names AS VARCHAR[]), CAST(:descriptions AS VARCHAR[]))
+            ON CONFLICT ("name") DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    List<ProductEntityJpa> insertAllIfNameAbsent(
+            @Param("categoryIds") Long[] categoryIds, @Param("names") String[] names,
+            @Param("descriptions") String[] descriptions);
+
+    @Transactional
+    @Query(value = """
+            UPDATE "product"
+            SET "category_id" = :categoryId, "name" = :name, "description" = CAST(:description AS VARCHAR),
+                "updated_at" = LOCALTIMESTAMP
+            WHERE "product_id" = :id AND "deletion_date" IS NULL
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<ProductEntityJpa> updateById(
+            @Param("id") long id, @Param("categoryId") long categoryId,
+            @Param("name") String name, @Param("description") String description);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE "product"
+            SET "deletion_date" = LOCALTIMESTAMP
+            WHERE "product_id" = :id AND "deletion_date" IS NULL
+            """, nativeQuery = true)
+    int softDeleteById(@Param("id") long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM "product"
+            WHERE "product_id" = :id
+            """, nativeQuery = true)
+    int hardDeleteById(@Param("id") long id);
+
+}
@@ -0,0 +1,3 @@
+-- Product listing filtered by category and ordered by ID (keyset pagination)
+-- PostgreSQL does not index foreign keys, this also speeds up the RESTRICT check on category deletion
+CREATE INDEX "idx_product_category_id_product_id" ON public."product" ("category_id", "product_id");
@@ -0,0 +1,38 @@
+-- Widening of the SMALLINT IDs to BIGINT, step 1/4: shadow columns
+-- Nullable columns without default are added without rewriting the tables
+ALTER TABLE public."category"
+    ADD COLUMN "category_id_new" BIGINT;
+
+ALTER TABLE public."product"
+    ADD COLUMN "product_id_new"  BIGINT,
+    ADD COLUMN "category_id_new" BIGINT;
+
+-- New and updated rows are written to both columns until the swap (V6)
+CREATE FUNCTION public."category_sync_id_new"() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW."category_id_new" := NEW."category_id";
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "category_sync_id_new"
+    BEFORE INSERT OR UPDATE
+    ON public."category"
+    FOR EACH ROW
+EXECUTE FUNCTION public."category_sync_id_new"();
+
+CREATE FUNCTION public."product_sync_id_new"() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW."product_id_new" := NEW."product_id";
+    NEW."category_id_new" := NEW."category_id";
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "product_sync_id_new"
+    BEFORE INSERT OR UPDATE
+    ON public."product"
+    FOR EACH ROW
+EXECUTE FUNCTION public."product_sync_id_new"();
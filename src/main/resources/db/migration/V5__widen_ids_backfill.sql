@@ -0,0 +1,67 @@
+-- Widening of the SMALLINT IDs to BIGINT, step 2/4: backfill, indexes and NOT NULL checks
+-- Runs outside of a transaction (see the .conf file): every batch is committed on its own,
+-- indexes are built concurrently and constraints are validated without blocking writes
+
+-- Batches walk the primary key, each one only locks the rows it updates
+DO
+$$
+DECLARE
+    batch_size CONSTANT BIGINT := 10000;
+    from_id             BIGINT := 0;
+    max_id              BIGINT;
+BEGIN
+    SELECT COALESCE(MAX("category_id"), 0) INTO max_id FROM public."category";
+    WHILE from_id < max_id
+        LOOP
+            UPDATE public."category"
+            SET "category_id_new" = "category_id"
+            WHERE "category_id" > from_id
+              AND "category_id" <= from_id + batch_size
+              AND "category_id_new" IS NULL;
+            from_id := from_id + batch_size;
+            COMMIT;
+        END LOOP;
+END
+$$;
+
+DO
+$$
+DECLARE
+    batch_size CONSTANT BIGINT := 10000;
+    from_id             BIGINT := 0;
+    max_id              BIGINT;
+BEGIN
+    SELECT COALESCE(MAX("product_id"), 0) INTO max_id FROM public."product";
+    WHILE from_id < max_id
+        LOOP
+            UPDATE public."product"
+            SET "product_id_new"  = "product_id",
+                "category_id_new" = "category_id"
+            WHERE "product_id" > from_id
+              AND "product_id" <= from_id + batch_size
+              AND "product_id_new" IS NULL;
+            from_id := from_id + batch_size;
+            COMMIT;
+        END LOOP;
+END
+$$;
+
+-- Future primary keys and listing index
+CREATE UNIQUE INDEX CONCURRENTLY "category_category_id_new_key" ON public."category" ("category_id_new");
+CREATE UNIQUE INDEX CONCURRENTLY "product_product_id_new_key" ON public."product" ("product_id_new");
+CREATE INDEX CONCURRENTLY "idx_product_category_id_new_product_id_new"
+    ON public."product" ("category_id_new", "product_id_new");
+
+-- A validated CHECK lets SET NOT NULL skip the table scan in the swap
+ALTER TABLE public."category"
+    ADD CONSTRAINT "category_id_new_not_null" CHECK ("category_id_new" IS NOT NULL) NOT VALID;
+ALTER TABLE public."category"
+    VALIDATE CONSTRAINT "category_id_new_not_null";
+
+ALTER TABLE public."product"
+    ADD CONSTRAINT "product_id_new_not_null" CHECK ("product_id_new" IS NOT NULL) NOT VALID,
+    ADD CONSTRAINT "product_category_id_new_not_null" CHECK ("category_id_new" IS NOT NULL) NOT VALID;
+ALTER TABLE public."product"
+    VALIDATE CONSTRAINT "product_id_new_not_null";
+ALTER TABLE public."product"
+    VALIDATE CONSTRAINT "product_category_id_new_not_null";
@@ -0,0 +1,75 @@
+-- Widening of the SMALLINT IDs to BIGINT, step 3/4: swap
+-- Metadata changes only, the exclusive locks are held for milliseconds whatever the table size
+-- Both tables are locked up front in one statement, the swap cannot deadlock halfway
+-- A lock request waiting behind a long transaction would queue every later query on the tables,
+-- so it gives up after lock_timeout, releases its place in the queue and is retried after a pause
+DO $$
+DECLARE
+    attempt INT := 1;
+BEGIN
+    PERFORM set_config('lock_timeout', '2s', true);
+    LOOP
+        BEGIN
+            LOCK TABLE public."category", public."product" IN ACCESS EXCLUSIVE MODE;
+            EXIT;
+        EXCEPTION
+            WHEN lock_not_available THEN
+                IF attempt = 10 THEN
+                    RAISE;
+                END IF;
+                RAISE NOTICE 'V6: tables busy, lock attempt % timed out', attempt;
+                PERFORM pg_sleep(attempt);
+                attempt := attempt + 1;
+        END;
+    END LOOP;
+END $$;
+
+DROP TRIGGER "category_sync_id_new" ON public."category";
+DROP FUNCTION public."category_sync_id_new"();
+DROP TRIGGER "product_sync_id_new" ON public."product";
+DROP FUNCTION public."product_sync_id_new"();
+
+-- Product, dropping the old columns also drops the old primary key, identity and indexes
+ALTER TABLE public."product"
+    DROP CONSTRAINT "fk_product_category_id";
+ALTER TABLE public."product"
+    DROP COLUMN "product_id",
+    DROP COLUMN "category_id";
+ALTER TABLE public."product"
+    RENAME COLUMN "product_id_new" TO "product_id";
+ALTER TABLE public."product"
+    RENAME COLUMN "category_id_new" TO "category_id";
+ALTER TABLE public."product"
+    ALTER COLUMN "product_id" SET NOT NULL,
+    ALTER COLUMN "category_id" SET NOT NULL;
+ALTER TABLE public."product"
+    DROP CONSTRAINT "product_id_new_not_null",
+    DROP CONSTRAINT "product_category_id_new_not_null";
+ALTER TABLE public."product"
+    ADD CONSTRAINT "product_pkey" PRIMARY KEY USING INDEX "product_product_id_new_key";
+ALTER INDEX public."idx_product_category_id_new_product_id_new" RENAME TO "idx_product_category_id_product_id";
+ALTER TABLE public."product"
+    ALTER COLUMN "product_id" ADD GENERATED BY DEFAULT AS IDENTITY;
+SELECT setval(pg_get_serial_sequence('public."product"', 'product_id'), COALESCE(MAX("product_id"), 0) + 1, false)
+FROM public."product";
+
+-- Category
+ALTER TABLE public."category"
+    DROP COLUMN "category_id";
+ALTER TABLE public."category"
+    RENAME COLUMN "category_id_new" TO "category_id";
+ALTER TABLE public."category"
+    ALTER COLUMN "category_id" SET NOT NULL;
+ALTER TABLE public."category"
+    DROP CONSTRAINT "category_id_new_not_null";
+ALTER TABLE public."category"
+    ADD CONSTRAINT "category_pkey" PRIMARY KEY USING INDEX "category_category_id_new_key";
+ALTER TABLE public."category"
+    ALTER COLUMN "category_id" ADD GENERATED BY DEFAULT AS IDENTITY;
+SELECT setval(pg_get_serial_sequence('public."category"', 'category_id'), COALESCE(MAX("category_id"), 0) + 1, false)
+FROM public."category";
+
+-- Only new rows are checked here, existing rows are validated in V7
+ALTER TABLE public."product"
+    ADD CONSTRAINT "fk_product_category_id" FOREIGN KEY ("category_id") REFERENCES public."category" ("category_id")
+        ON DELETE RESTRICT ON UPDATE CASCADE NOT VALID;
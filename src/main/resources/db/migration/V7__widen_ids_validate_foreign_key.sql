@@ -0,0 +1,4 @@
+-- Widening of the SMALLINT IDs to BIGINT, step 4/4: foreign key validation
+-- Scans the product table without blocking reads and writes (SHARE UPDATE EXCLUSIVE lock)
+ALTER TABLE public."product"
+    VALIDATE CONSTRAINT "fk_product_category_id";
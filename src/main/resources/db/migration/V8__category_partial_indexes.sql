@@ -0,0 +1,12 @@
+-- Partial indexes for the soft delete aware queries, built without blocking writes (see the .conf file)
+
+-- Name uniqueness only applies to live categories, names of soft deleted ones can be reused
+CREATE UNIQUE INDEX CONCURRENTLY "category_name_live_key" ON public."category" ("name") WHERE "deletion_date" IS NULL;
+ALTER TABLE public."category"
+    DROP CONSTRAINT "category_name_key";
+
+-- Default sort key of the live and deleted lists
+CREATE INDEX CONCURRENTLY "idx_category_live_category_id"
+    ON public."category" ("category_id") WHERE "deletion_date" IS NULL;
+CREATE INDEX CONCURRENTLY "idx_category_deleted_category_id"
+    ON public."category" ("category_id") WHERE "deletion_date" IS NOT NULL;
@@ -0,0 +1,5 @@
+-- Version and last modification of a category, for ETags and conditional requests
+-- Non-volatile defaults are stored in the catalog, existing rows are not rewritten
+ALTER TABLE public."category"
+    ADD COLUMN "version"    BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN "updated_at" TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP;
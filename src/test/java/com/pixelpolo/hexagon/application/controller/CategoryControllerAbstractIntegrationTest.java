@@ -2,52 +2,51 @@ package com.pixelpolo.hexagon.application.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.mongodb.MongoDBContainer;
-import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
 
 /**
  * Abstract class of Integration tests for CategoryController.
  * Spring Boot Test framework is used with MockMvc for HTTP request simulation.
  * No HTTP calls are actually made through the network, the DispatcherServlet handles them in-memory.
  * All beans (services, repositories, JPA) use real implementations without mocks.
+ * The database subclasses start their containers, the memory subclass runs without Docker.
  */
-@Testcontainers
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 public abstract class CategoryControllerAbstractIntegrationTest {
 
-    // --- TEST CONTAINERS SETUP ---
-    // Docker must be running.
-    // Static container shared across all tests.
-    // Seeding the database is made after each test with an utility class.
-
-    @Container
-    @ServiceConnection
-    protected static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
-
-    @Container
-    @ServiceConnection
-    protected static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
-
     // --- TESTS SETUP ---
+    // The store of the profile is reset and seeded before each test by the subclass.
 
     @Value("${api.version}")
     private String apiVersion;
@@ -76,6 +75,18 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(9)));
     }
 
+    @Test
+    @DisplayName("GET /api/{version}/categories?includeTotal=true - Should get all categories with their total")
+    void shouldGetAllCategoriesWithTotal() throws Exception {
+        mockMvc.perform(get(baseUrl)
+                                .param("page", "0")
+                                .param("size", "5")
+                                .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(header().string(CategoryController.TOTAL_COUNT_HEADER, "9"));
+    }
+
     @Test
     @DisplayName("GET /api/{version}/categories/deleted - Should get all deleted categories")
     void shouldGetAllDeletedCategories() throws Exception {
@@ -86,6 +97,108 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /api/{version}/categories?after= - Should walk all categories with cursors")
+    void shouldGetAllCategoriesWithCursor() throws Exception {
+        String nextCursor = mockMvc.perform(get(baseUrl)
+                                                    .param("after", "")
+                                                    .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(jsonPath("$[0].categoryId").value(1))
+                .andReturn()
+                .getResponse()
+                .getHeader(CategoryController.NEXT_CURSOR_HEADER);
+
+        assertThat(nextCursor).isNotBlank();
+        mockMvc.perform(get(baseUrl)
+                                .param("after", nextCursor)
+                                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].categoryId").value(6))
+                .andExpect(header().doesNotExist(CategoryController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories?after=_ - Should return 400 for an invalid cursor")
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        mockMvc.perform(get(baseUrl)
+                                .param("after", "not-a-cursor")
+                                .param("size", "5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories?after=_ - Should return 400 for a cursor of another sort")
+    void shouldReturn400ForCursorOfAnotherSort() throws Exception {
+        String nameCursor = mockMvc.perform(get(baseUrl)
+                                                    .param("after", "")
+                                                    .param("size", "5")
+                                                    .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(CategoryController.NEXT_CURSOR_HEADER);
+
+        assertThat(nameCursor).isNotBlank();
+        mockMvc.perform(get(baseUrl)
+                                .param("after", nameCursor)
+                                .param("size", "5")
+                                .param("sortBy", "version"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/export - Should stream all categories as NDJSON")
+    void shouldExportCategoriesAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get(baseUrl + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"categories.ndjson\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(9);
+        assertThat(lines.getFirst()).startsWith("{\"categoryId\":1,\"name\":\"Mobilité\"");
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/export?format=csv - Should stream live categories as CSV")
+    void shouldExportLiveCategoriesAsCsv() throws Exception {
+        mockMvc.perform(delete(baseUrl + "/2"))
+                .andExpect(status().isNoContent());
+
+        MvcResult result = mockMvc.perform(get(baseUrl + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(1 + 8);
+        assertThat(lines.getFirst()).isEqualTo("categoryId,name");
+        assertThat(lines).doesNotContain("2,Logement");
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/export?format=xml - Should return 400 for an unknown format")
+    void shouldReturn400ForUnknownDataFormat() throws Exception {
+        mockMvc.perform(get(baseUrl + "/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/{version}/categories/1 - Should get category by ID")
     void shouldGetCategoryById() throws Exception {
@@ -95,11 +208,59 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Mobilité"));
     }
 
+    @Test
+    @DisplayName("GET /api/{version}/categories/1 - Should return 304 when the ETag is still current")
+    void shouldReturn304ForCurrentETag() throws Exception {
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0\""))
+                .andExpect(header().exists("Last-Modified"));
+
+        mockMvc.perform(get(baseUrl + "/1").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-0\""));
+
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Updated Category\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(baseUrl + "/1").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1\""))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories - Should return 304 until a listed category changes")
+    void shouldReturn304ForCurrentListETag() throws Exception {
+        String eTag = mockMvc.perform(get(baseUrl))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(get(baseUrl).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Updated Category\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(baseUrl).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("GET /api/{version}/categories/999 - Should return 404 for non-existing category")
     void shouldReturn404ForNonExistingCategory() throws Exception {
         mockMvc.perform(get(baseUrl + "/999"))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.type").value("/problems/not-found"))
+                .andExpect(jsonPath("$.title").value("Resource not found"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Category with ID 999 not found."));
     }
 
     @Test
@@ -113,15 +274,223 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(jsonPath("$.name").value("New Category"));
     }
 
+    @Test
+    @DisplayName("POST /api/{version}/categories - Should create categories concurrently with unique IDs")
+    void shouldCreateCategoriesConcurrentlyWithUniqueIds() throws Exception {
+        int threads = 16;
+        int categoriesPerThread = 25;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < categoriesPerThread; i++) {
+                        String response = mockMvc.perform(post(baseUrl)
+                                                                  .contentType("application/json")
+                                                                  .content("{\"name\":\"Concurrent " + thread + "-" + i + "\"}"))
+                                .andExpect(status().isCreated())
+                                .andReturn()
+                                .getResponse()
+                                .getContentAsString();
+                        ids.add(JsonPath.<Number>read(response, "$.categoryId").longValue());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // No create silently overwrote another one
+        assertThat(ids).hasSize(threads * categoriesPerThread);
+        mockMvc.perform(get(baseUrl)
+                                .param("page", "0")
+                                .param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(9 + threads * categoriesPerThread)));
+    }
+
     @Test
     @DisplayName("POST /api/{version}/categories - Should return 409 for existing category")
     void shouldReturn409ForExistingCategory() throws Exception {
         mockMvc.perform(post(baseUrl)
                                 .contentType("application/json")
                                 .content("{\"name\":\"Mobilité\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.type").value("/problems/already-exists"))
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories - Should return 400 with the invalid fields")
+    void shouldReturn400WithInvalidFields() throws Exception {
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"name\":\" \"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.type").value("/problems/validation"))
+                .andExpect(jsonPath("$.errors[0].field").value("name"))
+                .andExpect(jsonPath("$.errors[0].message").value("The field must not be blank."));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories - Should reuse the name of a soft deleted category")
+    void shouldReuseNameOfSoftDeletedCategory() throws Exception {
+        mockMvc.perform(delete(baseUrl + "/2"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"name\":\"Logement\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("Logement"));
+
+        // Only one live category can hold the name
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"name\":\"Logement\"}"))
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    @DisplayName("POST /api/{version}/categories/batch - Should create categories with a result per item")
+    void shouldCreateCategoriesInBatch() throws Exception {
+        mockMvc.perform(post(baseUrl + "/batch")
+                                .contentType("application/json")
+                                .content("[{\"name\":\"Batch 1\"},{\"name\":\"Mobilité\"},{\"name\":\"Batch 1\"},{\"name\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].category.name").value("Batch 1"))
+                .andExpect(jsonPath("$[1].status").value(409))
+                .andExpect(jsonPath("$[2].status").value(409))
+                .andExpect(jsonPath("$[3].status").value(400));
+
+        mockMvc.perform(get(baseUrl))
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/batch - Should report a null element as an invalid item")
+    void shouldReportNullElementInBatch() throws Exception {
+        mockMvc.perform(post(baseUrl + "/batch")
+                                .contentType("application/json")
+                                .content("[{\"name\":\"Batch 1\"},null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[1].status").value(400))
+                .andExpect(jsonPath("$[1].error").value("The field must not be null."));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/import - Should import NDJSON records and report the failed ones")
+    void shouldImportCategoriesFromNdjson() throws Exception {
+        String body = """
+                {"name":"Imported 1"}
+                {"name":"Mobilité"}
+
+                {"name":""}
+                {"name":
+                {"name":"Imported 2"}
+                """;
+
+        mockMvc.perform(post(baseUrl + "/import")
+                                .contentType("application/x-ndjson")
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].status").value(409))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[1].status").value(400))
+                .andExpect(jsonPath("$.errors[2].index").value(3))
+                .andExpect(jsonPath("$.errors[2].status").value(400));
+
+        mockMvc.perform(get(baseUrl).param("size", "100"))
+                .andExpect(jsonPath("$", hasSize(9 + 2)));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/import?format=csv - Should import CSV records with quoted values")
+    void shouldImportCategoriesFromCsv() throws Exception {
+        String body = "name\r\n\"Imported, with a comma\"\r\n\"Imported \"\"quoted\"\"\"\r\n";
+
+        mockMvc.perform(post(baseUrl + "/import")
+                                .param("format", "csv")
+                                .contentType("text/csv")
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        mockMvc.perform(get(baseUrl).param("size", "100"))
+                .andExpect(jsonPath("$[9].name").value("Imported, with a comma"))
+                .andExpect(jsonPath("$[10].name").value("Imported \"quoted\""));
+    }
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/batch - Should update categories with a result per item")
+    void shouldUpdateCategoriesInBatch() throws Exception {
+        mockMvc.perform(put(baseUrl + "/batch")
+                                .contentType("application/json")
+                                .content("[{\"categoryId\":1,\"name\":\"Renamed\"},"
+                                                 + "{\"categoryId\":999,\"name\":\"Missing\"},"
+                                                 + "{\"categoryId\":3,\"name\":\"Logement\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].category.name").value("Renamed"))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[2].status").value(409));
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(jsonPath("$.name").value("Renamed"));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/batch/delete - Should delete categories with a result per item")
+    void shouldDeleteCategoriesInBatch() throws Exception {
+        mockMvc.perform(post(baseUrl + "/batch/delete")
+                                .contentType("application/json")
+                                .content("[1,999,1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(204))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[2].status").value(404));
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(baseUrl + "/deleted"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/batch/delete?hard=true - Should skip a category referenced by products")
+    void shouldHardDeleteCategoriesInBatchExceptReferenced() throws Exception {
+        // Act & Assert
+        // The seeded products all belong to category 1
+        mockMvc.perform(post(baseUrl + "/batch/delete")
+                                .param("hard", "true")
+                                .contentType("application/json")
+                                .content("[2,1,999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(204))
+                .andExpect(jsonPath("$[1].status").value(409))
+                .andExpect(jsonPath("$[1].error").value("Category with ID 1 is still referenced by products."))
+                .andExpect(jsonPath("$[2].status").value(404));
+
+        // Verify
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(baseUrl + "/2"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("PUT /api/{version}/categories/1 - Should update category")
     void shouldUpdateCategory() throws Exception {
@@ -142,6 +511,66 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    @DisplayName("PUT /api/{version}/categories/1 - Should keep the same name when updating to its own name")
+    void shouldUpdateCategoryToItsOwnName() throws Exception {
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Mobilité\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoryId").value(1))
+                .andExpect(jsonPath("$.name").value("Mobilité"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/1 - Should update category only at the version of If-Match")
+    void shouldUpdateCategoryWithIfMatch() throws Exception {
+        mockMvc.perform(put(baseUrl + "/1")
+                                .header("If-Match", "\"1-0\"")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Updated Category\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // The client copy is now stale
+        mockMvc.perform(put(baseUrl + "/1")
+                                .header("If-Match", "\"1-0\"")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Lost Update\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        // An ETag of another category never matches
+        mockMvc.perform(put(baseUrl + "/1")
+                                .header("If-Match", "\"3-1\"")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Lost Update\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(jsonPath("$.name").value("Updated Category"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/1 - Should return 409 for a stale version in the body")
+    void shouldReturn409ForStaleBodyVersion() throws Exception {
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Updated Category\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A concurrent writer that read version 0 would overwrite the first update
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Lost Update\",\"version\":0}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(jsonPath("$.name").value("Updated Category"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
     @Test
     @DisplayName("PUT /api/{version}/categories/999 - Should return 404 for updating non-existing category")
     void shouldReturn404ForUpdatingNonExistingCategory() throws Exception {
@@ -173,6 +602,20 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("DELETE /api/{version}/categories/2 - Should return 404 for soft deleting an already deleted category")
+    void shouldReturn404ForSoftDeletingDeletedCategory() throws Exception {
+        mockMvc.perform(delete(baseUrl + "/2"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete(baseUrl + "/2"))
+                .andExpect(status().isNotFound());
+
+        // A soft deleted category can still be hard deleted (category 2 has no products)
+        mockMvc.perform(delete(baseUrl + "/2?hard=true"))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     @DisplayName("DELETE /api/{version}/categories/1 - Should hard delete category")
     void shouldHardDeleteCategory() throws Exception {
@@ -195,6 +638,17 @@ public abstract class CategoryControllerAbstractIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("DELETE /api/{version}/categories/1 - Should return 409 for hard deleting a category referenced by products")
+    void shouldReturn409ForHardDeletingReferencedCategory() throws Exception {
+        // The seeded products all belong to category 1
+        mockMvc.perform(delete(baseUrl + "/1?hard=true"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("DELETE /api/{version}/categories/999 - Should return 404 for deleting non-existing category")
     void shouldReturn404ForDeletingNonExistingCategory() throws Exception {
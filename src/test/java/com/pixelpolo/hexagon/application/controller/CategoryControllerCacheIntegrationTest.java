@@ -0,0 +1,91 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pixelpolo.hexagon.common.utils.MemorySeedingUtils;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.cache.adapter.CategoryAdapterCache;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.ProductAdapterMemory;
+
+/**
+ * Integration tests for CategoryController.
+ * It runs the same suite with the category cache in front of the in-memory adapters,
+ * writes made directly on the store stand for another instance sharing the database.
+ */
+@ActiveProfiles({"test", "memory"})
+@TestPropertySource(properties = "category.cache.enabled=true")
+class CategoryControllerCacheIntegrationTest extends CategoryControllerAbstractIntegrationTest {
+
+    // --- TESTS SETUP ---
+    // The stores are seeded again and the cache is emptied.
+
+    @Autowired
+    private CategoryAdapterMemory categoryAdapterMemory;
+
+    @Autowired
+    private ProductAdapterMemory productAdapterMemory;
+
+    @Autowired
+    private CategoryAdapterCache categoryAdapterCache;
+
+    @Override
+    protected void resetDatabase() {
+        MemorySeedingUtils.seed(categoryAdapterMemory, productAdapterMemory);
+        categoryAdapterCache.clear();
+    }
+
+    // --- TESTS ---
+
+    @Test
+    @DisplayName("POST /api/{version}/categories - Should create a cached name renamed by another instance")
+    void shouldCreateNameRenamedElsewhere() throws Exception {
+        // Arrange
+        String body = mockMvc.perform(post(baseUrl)
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content("{\"name\":\"Cached\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long id = ((Number) JsonPath.read(body, "$.categoryId")).longValue();
+        categoryAdapterMemory.update(id, Category.builder().name("Renamed elsewhere").build());
+
+        // Act & Assert
+        mockMvc.perform(post(baseUrl)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"name\":\"Cached\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("Cached"));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/1 - Should not answer 304 from a cached category updated by another instance")
+    void shouldValidateETagAgainstStore() throws Exception {
+        // Arrange
+        String eTag = mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        categoryAdapterMemory.update(1L, Category.builder().name("Renamed elsewhere").build());
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl + "/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed elsewhere"));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pixelpolo.hexagon.common.utils.MemorySeedingUtils;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.ProductAdapterMemory;
+
+/**
+ * Integration tests for CategoryController.
+ * It runs the same suite against the in-memory adapters, no container nor Docker is needed.
+ */
+@ActiveProfiles({"test", "memory"})
+class CategoryControllerMemoryIntegrationTest extends CategoryControllerAbstractIntegrationTest {
+
+    // --- TESTS SETUP ---
+    // The stores are cleared and seeded again, IDs restart at 1.
+
+    @Autowired
+    private CategoryAdapterMemory categoryAdapterMemory;
+
+    @Autowired
+    private ProductAdapterMemory productAdapterMemory;
+
+    @Override
+    protected void resetDatabase() {
+        MemorySeedingUtils.seed(categoryAdapterMemory, productAdapterMemory);
+    }
+
+}
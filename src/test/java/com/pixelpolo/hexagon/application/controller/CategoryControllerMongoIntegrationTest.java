@@ -1,8 +1,25 @@
 package com.pixelpolo.hexagon.application.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
 
 import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
 import com.pixelpolo.hexagon.common.utils.MongoSeedingUtils;
@@ -11,9 +28,22 @@ import com.pixelpolo.hexagon.common.utils.MongoSeedingUtils;
  * Integration tests for CategoryController.
  * It uses Testcontainers to spin up a MongoDB database for testing.
  */
+@Testcontainers
 @ActiveProfiles({"test", "mongo"})
 public class CategoryControllerMongoIntegrationTest extends CategoryControllerAbstractIntegrationTest {
 
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+    // Static containers shared across all tests, both databases are needed by the application context.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
     // --- TESTS SETUP ---
     // Use a seeding utility class to populate the MongoDB database.
 
@@ -24,6 +54,72 @@ public class CategoryControllerMongoIntegrationTest extends CategoryControllerAb
     protected void resetDatabase() {
         mongoTemplate.dropCollection(CategoryEntityMongo.class);
         MongoSeedingUtils.seedCategories(mongoTemplate);
+        // The products reference category 1, a hard delete has to skip it
+        MongoSeedingUtils.seedProducts(mongoTemplate);
+    }
+
+    // --- TESTS ---
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/1 - Should match If-Match version 0 on a document written before versioning")
+    void shouldUpdateDocumentWithoutVersion() throws Exception {
+        // Arrange
+        mongoTemplate.updateFirst(Query.query(Criteria.where("categoryId").is(1L)), new Update().unset("version"),
+                                  CategoryEntityMongo.class);
+
+        // Act & Assert
+        mockMvc.perform(put(baseUrl + "/1")
+                                .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Transport\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("Seeding - Should keep the changes and version of a seeded category on the next startup")
+    void shouldNotResetSeededCategories() throws Exception {
+        // Arrange
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"name\":\"Transport\"}"))
+                .andExpect(status().isOk());
+
+        // Act
+        MongoSeedingUtils.seedCategories(mongoTemplate);
+
+        // Assert
+        CategoryEntityMongo category = mongoTemplate.findById(1L, CategoryEntityMongo.class);
+        assertThat(category).isNotNull();
+        assertThat(category.getName()).isEqualTo("Transport");
+        assertThat(category.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - Should list live categories with an index scan")
+    void shouldListLiveCategoriesWithIndexScan() {
+        String plan = explain(new Document("deletionDate", null).append("_id", new Document("$gt", 0L)));
+
+        assertThat(plan).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - Should find a live category by name with the partial unique index")
+    void shouldFindByNameWithPartialIndex() {
+        String plan = explain(new Document("name", "Mobilité").append("deletionDate", null));
+
+        assertThat(plan).contains(CategoryEntityMongo.NAME_INDEX).doesNotContain("COLLSCAN");
+    }
+
+    private String explain(Document filter) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(CategoryEntityMongo.class))
+                .find(filter)
+                .sort(new Document("_id", 1))
+                .limit(21)
+                .explain()
+                .get("queryPlanner", Document.class)
+                .get("winningPlan", Document.class)
+                .toJson();
     }
 
 }
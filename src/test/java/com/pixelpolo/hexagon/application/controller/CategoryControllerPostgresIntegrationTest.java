@@ -2,11 +2,26 @@ package com.pixelpolo.hexagon.application.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
 
 /**
  * Integration tests for CategoryController.<br>
@@ -14,9 +29,22 @@ import org.springframework.test.context.ActiveProfiles;
  * <a href="https://java.testcontainers.org/test_framework_integration/junit_5/#extension">Testcontainers documentation</a><br>
  * <a href="https://medium.com/@turanulus/how-to-write-an-integration-test-with-testcontainers-and-postgresql-67425e124753">Interesting article</a><br>
  */
+@Testcontainers
 @ActiveProfiles({"test", "postgres"})
 class CategoryControllerPostgresIntegrationTest extends CategoryControllerAbstractIntegrationTest {
 
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+    // Static containers shared across all tests, both databases are needed by the application context.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
     // --- TESTS SETUP ---
     // Ensure Flyway migrations are applied before each test
     // and cleaned up after each test to maintain a consistent state.
@@ -27,6 +55,12 @@ class CategoryControllerPostgresIntegrationTest extends CategoryControllerAbstra
     @Autowired
     private Flyway flyway;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryPort categoryPort;
+
     @Override
     protected void resetDatabase() {
         flyway.clean();
@@ -41,4 +75,72 @@ class CategoryControllerPostgresIntegrationTest extends CategoryControllerAbstra
         assertThat(PSQL_CONTAINER.isRunning()).isTrue();
     }
 
+    @Test
+    @DisplayName("PUT /api/{version}/categories/batch - Should update the other categories when a name is taken")
+    void shouldUpdateCategoriesInBatchDespiteTakenName() {
+        // Act
+        // The name of category 3 is taken by category 2, the batch statement skips it instead of failing
+        List<Category> updated = categoryPort.updateAll(List.of(
+                Category.builder().categoryId(1L).name("Renamed").build(),
+                Category.builder().categoryId(3L).name("Logement").build()));
+
+        // Assert
+        assertThat(updated).extracting(Category::getCategoryId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - Should list live categories with an index scan")
+    void shouldListLiveCategoriesWithIndexScan() {
+        String plan = explain("""
+                SELECT * FROM "category"
+                WHERE "deletion_date" IS NULL AND "category_id" > ?
+                ORDER BY "category_id" LIMIT 21
+                """, 0L);
+
+        assertThat(plan).contains("\"Index Name\"").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - Should list deleted categories with an index scan")
+    void shouldListDeletedCategoriesWithIndexScan() {
+        String plan = explain("""
+                SELECT * FROM "category"
+                WHERE "deletion_date" IS NOT NULL AND "category_id" > ?
+                ORDER BY "category_id" LIMIT 21
+                """, 0L);
+
+        assertThat(plan).contains("\"Index Name\"").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - Should find a live category by name with the partial unique index")
+    void shouldFindByNameWithPartialIndex() {
+        String plan = explain("""
+                SELECT * FROM "category"
+                WHERE "name" = ? AND "deletion_date" IS NULL
+                """, "Mobilité");
+
+        assertThat(plan).contains("\"category_name_live_key\"").doesNotContain("Seq Scan");
+    }
+
+    // The seeded tables fit in a page, sequential scans are disabled so the plan shows whether an index is usable
+    private String explain(String sql, Object parameter) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+            }
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+                explain.setObject(1, parameter);
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        });
+    }
+
 }
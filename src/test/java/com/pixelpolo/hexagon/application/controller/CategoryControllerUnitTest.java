@@ -1,6 +1,7 @@
 package com.pixelpolo.hexagon.application.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,11 +14,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import com.pixelpolo.hexagon.application.adapter.CategoryAdapter;
+import com.pixelpolo.hexagon.application.dto.BulkItemResponse;
 import com.pixelpolo.hexagon.application.dto.CategoryRequest;
 import com.pixelpolo.hexagon.application.dto.CategoryResponse;
 import com.pixelpolo.hexagon.common.utils.LocationUtils;
@@ -36,6 +46,10 @@ class CategoryControllerUnitTest {
     public static final int PAGE_NUMBER = 0;
     public static final int PAGE_SIZE = 10;
     public static final PageRequest PAGE_REQUEST = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
+    public static final Sort SORT = Sort.by(SORT_BY).ascending();
+    public static final String CURSOR = "cursor";
+    public static final String NEXT_CURSOR = "next-cursor";
+    public static final KeysetScrollPosition SCROLL_POSITION = ScrollPosition.keyset();
 
     public static final Long CATEGORY_ID = 99L;
     public static final String CATEGORY_NAME = "Category";
@@ -66,7 +80,7 @@ class CategoryControllerUnitTest {
 
         // Act
         ResponseEntity<List<CategoryResponse>> response =
-                categoryController.getAllCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR);
+                categoryController.getAllCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR, null, false, webRequest());
 
         // Assert
         assertThat(response).isNotNull();
@@ -78,6 +92,28 @@ class CategoryControllerUnitTest {
         verify(categoryAdapter).getAllCategories(PAGE_REQUEST);
     }
 
+    @Test
+    @DisplayName("Should get all categories with their total")
+    void shouldGetAllCategoriesWithTotal() {
+        // Arrange
+        when(paginationUtils.buildPageRequest(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR)).thenReturn(PAGE_REQUEST);
+        when(categoryAdapter.getAllCategories(PAGE_REQUEST)).thenReturn(List.of(CATEGORY_RESPONSE));
+        when(categoryAdapter.countCategories()).thenReturn(42L);
+
+        // Act
+        ResponseEntity<List<CategoryResponse>> response =
+                categoryController.getAllCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR, null, true, webRequest());
+
+        // Assert
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getHeaders().getFirst(CategoryController.TOTAL_COUNT_HEADER)).isEqualTo("42");
+
+        // Verify
+        verify(categoryAdapter).countCategories();
+    }
+
     @Test
     @DisplayName("Should get all deleted categories")
     void shouldGetAllDeletedCategories() {
@@ -87,7 +123,7 @@ class CategoryControllerUnitTest {
 
         // Act
         ResponseEntity<List<CategoryResponse>> response =
-                categoryController.getAllDeletedCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR);
+                categoryController.getAllDeletedCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR, null, false, webRequest());
 
         // Assert
         assertThat(response).isNotNull();
@@ -99,14 +135,40 @@ class CategoryControllerUnitTest {
         verify(categoryAdapter).getAllDeletedCategories(PAGE_REQUEST);
     }
 
+    @Test
+    @DisplayName("Should get all categories with a cursor")
+    void shouldGetAllCategoriesWithCursor() {
+        // Arrange
+        Window<CategoryResponse> window = Window.from(List.of(CATEGORY_RESPONSE), ScrollPosition::offset, true);
+        when(paginationUtils.buildScrollPosition(CURSOR, PAGE_SIZE)).thenReturn(SCROLL_POSITION);
+        when(paginationUtils.buildSort(SORT_BY, SORT_DIR)).thenReturn(SORT);
+        when(categoryAdapter.getAllCategories(SCROLL_POSITION, SORT, PAGE_SIZE)).thenReturn(window);
+        when(paginationUtils.buildNextCursor(window)).thenReturn(NEXT_CURSOR);
+
+        // Act
+        ResponseEntity<List<CategoryResponse>> response =
+                categoryController.getAllCategories(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR, CURSOR, false, webRequest());
+
+        // Assert
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getHeaders().getFirst(CategoryController.NEXT_CURSOR_HEADER)).isEqualTo(NEXT_CURSOR);
+
+        // Verify
+        verify(categoryAdapter).getAllCategories(SCROLL_POSITION, SORT, PAGE_SIZE);
+        verify(paginationUtils, never()).buildPageRequest(PAGE_NUMBER, PAGE_SIZE, SORT_BY, SORT_DIR);
+    }
+
     @Test
     @DisplayName("Should get category by ID")
     void shouldGetCategoryById() {
         // Arrange
-        when(categoryAdapter.getCategoryById(99L)).thenReturn(CATEGORY_RESPONSE);
+        WebRequest request = webRequest();
+        when(categoryAdapter.getCategoryById(99L, request)).thenReturn(CATEGORY_RESPONSE);
 
         // Act
-        ResponseEntity<CategoryResponse> response = categoryController.getCategoryById(CATEGORY_ID);
+        ResponseEntity<CategoryResponse> response = categoryController.getCategoryById(CATEGORY_ID, request);
 
         // Assert
         assertThat(response).isNotNull();
@@ -116,7 +178,24 @@ class CategoryControllerUnitTest {
         assertThat(response.getBody().getName()).isEqualTo(CATEGORY_NAME);
 
         // Verify
-        verify(categoryAdapter).getCategoryById(99L);
+        verify(categoryAdapter).getCategoryById(99L, request);
+    }
+
+    @Test
+    @DisplayName("Should not return a body when the category is not modified")
+    void shouldNotReturnCategoryWhenNotModified() {
+        // Arrange
+        WebRequest request = webRequest();
+        when(categoryAdapter.getCategoryById(99L, request)).thenReturn(null);
+
+        // Act
+        ResponseEntity<CategoryResponse> response = categoryController.getCategoryById(CATEGORY_ID, request);
+
+        // Assert
+        assertThat(response).isNull();
+
+        // Verify
+        verify(categoryAdapter).getCategoryById(99L, request);
     }
 
     @Test
@@ -148,11 +227,11 @@ class CategoryControllerUnitTest {
         // Arrange
         String updatedName = "Updated Category";
         CategoryRequest updateRequest = CategoryRequest.builder().name(updatedName).build();
-        CategoryResponse updateResponse = CategoryResponse.builder().categoryId(CATEGORY_ID).name(updatedName).build();
-        when(categoryAdapter.updateCategory(CATEGORY_ID, updateRequest)).thenReturn(updateResponse);
+        CategoryResponse updateResponse = CategoryResponse.builder().categoryId(CATEGORY_ID).name(updatedName).version(3L).build();
+        when(categoryAdapter.updateCategory(CATEGORY_ID, 2L, updateRequest)).thenReturn(updateResponse);
 
         // Act
-        ResponseEntity<CategoryResponse> response = categoryController.updateCategory(CATEGORY_ID, updateRequest);
+        ResponseEntity<CategoryResponse> response = categoryController.updateCategory(CATEGORY_ID, "\"99-2\"", updateRequest);
 
         // Assert
         assertThat(response).isNotNull();
@@ -160,9 +239,49 @@ class CategoryControllerUnitTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getCategoryId()).isEqualTo(CATEGORY_ID);
         assertThat(response.getBody().getName()).isEqualTo(updatedName);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"99-3\"");
+
+        // Verify
+        verify(categoryAdapter).updateCategory(CATEGORY_ID, 2L, updateRequest);
+    }
+
+    @Test
+    @DisplayName("Should create categories in a batch")
+    void shouldCreateCategories() {
+        // Arrange
+        BulkItemResponse item = BulkItemResponse.builder()
+                .index(0).status(HttpStatus.CREATED.value()).categoryId(CATEGORY_ID).category(CATEGORY_RESPONSE).build();
+        when(categoryAdapter.createCategories(List.of(CATEGORY_REQUEST))).thenReturn(List.of(item));
+
+        // Act
+        ResponseEntity<List<BulkItemResponse>> response = categoryController.createCategories(List.of(CATEGORY_REQUEST));
+
+        // Assert
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(item);
+
+        // Verify
+        verify(categoryAdapter).createCategories(List.of(CATEGORY_REQUEST));
+    }
+
+    @Test
+    @DisplayName("Should delete categories in a batch")
+    void shouldDeleteCategories() {
+        // Arrange
+        BulkItemResponse item = BulkItemResponse.builder()
+                .index(0).status(HttpStatus.NO_CONTENT.value()).categoryId(CATEGORY_ID).build();
+        when(categoryAdapter.deleteCategories(List.of(CATEGORY_ID), true)).thenReturn(List.of(item));
+
+        // Act
+        ResponseEntity<List<BulkItemResponse>> response = categoryController.deleteCategories(List.of(CATEGORY_ID), true);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(item);
 
         // Verify
-        verify(categoryAdapter).updateCategory(CATEGORY_ID, updateRequest);
+        verify(categoryAdapter).deleteCategories(List.of(CATEGORY_ID), true);
     }
 
     @Test
@@ -195,4 +314,8 @@ class CategoryControllerUnitTest {
         verify(categoryAdapter).hardDeleteCategory(CATEGORY_ID);
     }
 
+    private static WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
 }
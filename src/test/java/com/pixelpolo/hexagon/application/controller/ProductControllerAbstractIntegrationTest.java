@@ -0,0 +1,258 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Abstract class of Integration tests for ProductController.
+ * Same setup as CategoryControllerAbstractIntegrationTest, the 7 seeded products belong to category 1.
+ */
+@Testcontainers
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+public abstract class ProductControllerAbstractIntegrationTest {
+
+    // --- TEST CONTAINERS SETUP ---
+
+    @Container
+    @ServiceConnection
+    protected static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    protected static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- TESTS SETUP ---
+
+    @Value("${api.version}")
+    private String apiVersion;
+    protected String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "/api/" + apiVersion + "/products";
+        resetDatabase();
+    }
+
+    protected abstract void resetDatabase();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    // --- TESTS ---
+
+    @Test
+    @DisplayName("GET /api/{version}/products/export - Should stream all products with their category as NDJSON")
+    void shouldExportProductsAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get(baseUrl + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(7);
+        assertThat(lines).allMatch(line -> line.contains("\"categoryName\":\"Mobilité\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/products/export?format=csv - Should stream all products as CSV")
+    void shouldExportProductsAsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get(baseUrl + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        // Descriptions holding commas are quoted, a record is still a single line
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(1 + 7);
+        assertThat(lines.getFirst()).isEqualTo("productId,categoryId,categoryName,name,description,createdAt,updatedAt");
+        assertThat(lines.getLast()).startsWith("7,1,Mobilité,Protection juridique circulation,\"Orion, défense pénale");
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/products?categoryId=1&size=5 - Should walk the products of a category with cursors")
+    void shouldGetAllProductsOfCategoryWithCursor() throws Exception {
+        String nextCursor = mockMvc.perform(get(baseUrl + "?categoryId=1&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(jsonPath("$[0].productId").value(1))
+                .andExpect(jsonPath("$[0].categoryName").value("Mobilité"))
+                .andExpect(header().exists(CategoryController.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(CategoryController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get(baseUrl + "?categoryId=1&size=5&after=" + nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].productId").value(6))
+                .andExpect(header().doesNotExist(CategoryController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/products?categoryId=2 - Should return no products for an empty category")
+    void shouldGetNoProductsOfEmptyCategory() throws Exception {
+        mockMvc.perform(get(baseUrl + "?categoryId=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/products/1 - Should get product by ID with its category")
+    void shouldGetProductById() throws Exception {
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Assurance voiture"))
+                .andExpect(jsonPath("$.categoryId").value(1))
+                .andExpect(jsonPath("$.categoryName").value("Mobilité"));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/products - Should create a new product")
+    void shouldCreateNewProduct() throws Exception {
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"categoryId\":2,\"name\":\"Assurance ménage\",\"description\":\"Inventaire\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.categoryName").value("Logement"))
+                .andExpect(jsonPath("$.createdAt").exists());
+
+        mockMvc.perform(get(baseUrl + "?categoryId=2"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/products - Should return 404 for a non-existing category")
+    void shouldReturn404ForNonExistingCategory() throws Exception {
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"categoryId\":999,\"name\":\"Product\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/products - Should return 409 for existing product")
+    void shouldReturn409ForExistingProduct() throws Exception {
+        mockMvc.perform(post(baseUrl)
+                                .contentType("application/json")
+                                .content("{\"categoryId\":1,\"name\":\"Assurance voiture\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/products/import - Should import NDJSON records and report the failed ones")
+    void shouldImportProductsFromNdjson() throws Exception {
+        String body = """
+                {"categoryId":2,"name":"Imported 1","description":"Inventaire"}
+                {"categoryId":1,"name":"Assurance voiture"}
+                {"categoryId":999,"name":"Imported 2"}
+                {"categoryId":2,"name":""}
+                {"categoryId":3,"name":"Imported 1"}
+                {"categoryId":3,"name":"Imported 3"}
+                """;
+
+        mockMvc.perform(post(baseUrl + "/import")
+                                .contentType("application/x-ndjson")
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].status").value(409))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[1].status").value(404))
+                .andExpect(jsonPath("$.errors[2].index").value(3))
+                .andExpect(jsonPath("$.errors[2].status").value(400))
+                .andExpect(jsonPath("$.errors[3].index").value(4))
+                .andExpect(jsonPath("$.errors[3].status").value(409));
+
+        mockMvc.perform(get(baseUrl + "?categoryId=2"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Imported 1"));
+        mockMvc.perform(get(baseUrl + "?categoryId=3"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/products/import?format=csv - Should import CSV records")
+    void shouldImportProductsFromCsv() throws Exception {
+        String body = "categoryId,name,description\r\n2,\"Imported, with a comma\",\r\n";
+
+        mockMvc.perform(post(baseUrl + "/import")
+                                .param("format", "csv")
+                                .contentType("text/csv")
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        mockMvc.perform(get(baseUrl + "?categoryId=2"))
+                .andExpect(jsonPath("$[0].name").value("Imported, with a comma"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/{version}/products/1 - Should update product")
+    void shouldUpdateProduct() throws Exception {
+        mockMvc.perform(put(baseUrl + "/1")
+                                .contentType("application/json")
+                                .content("{\"categoryId\":2,\"name\":\"Updated Product\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(1))
+                .andExpect(jsonPath("$.categoryName").value("Logement"))
+                .andExpect(jsonPath("$.name").value("Updated Product"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/{version}/products/1 - Should soft delete product")
+    void shouldSoftDeleteProduct() throws Exception {
+        mockMvc.perform(delete(baseUrl + "/1"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(baseUrl + "/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(baseUrl + "?categoryId=1&size=10"))
+                .andExpect(jsonPath("$", hasSize(6)));
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pixelpolo.hexagon.common.utils.MongoSeedingUtils;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.ProductEntityMongo;
+
+/**
+ * Integration tests for ProductController.
+ * It uses Testcontainers to spin up a MongoDB database for testing.
+ */
+@ActiveProfiles({"test", "mongo"})
+public class ProductControllerMongoIntegrationTest extends ProductControllerAbstractIntegrationTest {
+
+    // --- TESTS SETUP ---
+    // Use a seeding utility class to populate the MongoDB database.
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    protected void resetDatabase() {
+        mongoTemplate.dropCollection(ProductEntityMongo.class);
+        mongoTemplate.dropCollection(CategoryEntityMongo.class);
+        MongoSeedingUtils.seedCategories(mongoTemplate);
+        MongoSeedingUtils.seedProducts(mongoTemplate);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for ProductController.
+ * It uses Testcontainers to spin up a PostgreSQL database for testing.
+ */
+@ActiveProfiles({"test", "postgres"})
+class ProductControllerPostgresIntegrationTest extends ProductControllerAbstractIntegrationTest {
+
+    // --- TESTS SETUP ---
+    // Flyway migrations are cleaned and applied again before each test.
+
+    @Autowired
+    private Flyway flyway;
+
+    @Override
+    protected void resetDatabase() {
+        flyway.clean();
+        flyway.migrate();
+    }
+
+}
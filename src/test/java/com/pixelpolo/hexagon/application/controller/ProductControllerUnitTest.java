@@ -0,0 +1,120 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.pixelpolo.hexagon.application.adapter.ProductAdapter;
+import com.pixelpolo.hexagon.application.dto.ProductRequest;
+import com.pixelpolo.hexagon.application.dto.ProductResponse;
+import com.pixelpolo.hexagon.application.dto.ProductSummaryResponse;
+import com.pixelpolo.hexagon.common.utils.LocationUtils;
+import com.pixelpolo.hexagon.common.utils.PaginationUtils;
+
+/**
+ * Unit tests for ProductController.
+ * Junit is used as the testing framework.
+ * Mockito is used for mocking dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductControllerUnitTest {
+
+    public static final int PAGE_SIZE = 10;
+    public static final String CURSOR = "cursor";
+    public static final String NEXT_CURSOR = "next-cursor";
+    public static final KeysetScrollPosition SCROLL_POSITION = ScrollPosition.keyset();
+
+    public static final Long CATEGORY_ID = 1L;
+    public static final Long PRODUCT_ID = 99L;
+    public static final String PRODUCT_NAME = "Product";
+    public static final String LOCATION_URL = "/api/v1/products/" + PRODUCT_ID;
+
+    public static final ProductRequest PRODUCT_REQUEST = ProductRequest.builder()
+            .categoryId(CATEGORY_ID).name(PRODUCT_NAME).build();
+    public static final ProductResponse PRODUCT_RESPONSE = ProductResponse.builder()
+            .productId(PRODUCT_ID).categoryId(CATEGORY_ID).name(PRODUCT_NAME).build();
+    public static final ProductSummaryResponse PRODUCT_SUMMARY = ProductSummaryResponse.builder()
+            .productId(PRODUCT_ID).categoryId(CATEGORY_ID).name(PRODUCT_NAME).build();
+
+    @Mock
+    private PaginationUtils paginationUtils;
+
+    @Mock
+    private LocationUtils locationUtils;
+
+    @Mock
+    private ProductAdapter productAdapter;
+
+    @InjectMocks
+    private ProductController productController;
+
+    @Test
+    @DisplayName("Should get all products of a category with a cursor")
+    void shouldGetAllProductsOfCategory() {
+        // Arrange
+        Window<ProductSummaryResponse> window = Window.from(List.of(PRODUCT_SUMMARY), ScrollPosition::offset, true);
+        when(paginationUtils.buildScrollPosition(CURSOR, PAGE_SIZE)).thenReturn(SCROLL_POSITION);
+        when(productAdapter.getAllProducts(CATEGORY_ID, SCROLL_POSITION, PAGE_SIZE)).thenReturn(window);
+        when(paginationUtils.buildNextCursor(window)).thenReturn(NEXT_CURSOR);
+
+        // Act
+        ResponseEntity<List<ProductSummaryResponse>> response =
+                productController.getAllProducts(CATEGORY_ID, CURSOR, PAGE_SIZE);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(PRODUCT_SUMMARY);
+        assertThat(response.getHeaders().getFirst(CategoryController.NEXT_CURSOR_HEADER)).isEqualTo(NEXT_CURSOR);
+
+        // Verify
+        verify(productAdapter).getAllProducts(CATEGORY_ID, SCROLL_POSITION, PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should create a new product")
+    void shouldCreateNewProduct() {
+        // Arrange
+        when(productAdapter.createProduct(PRODUCT_REQUEST)).thenReturn(PRODUCT_RESPONSE);
+        when(locationUtils.getLocation(PRODUCT_ID, "products")).thenReturn(URI.create(LOCATION_URL));
+
+        // Act
+        ResponseEntity<ProductResponse> response = productController.createProduct(PRODUCT_REQUEST);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getLocation()).hasToString(LOCATION_URL);
+        assertThat(response.getBody()).isEqualTo(PRODUCT_RESPONSE);
+
+        // Verify
+        verify(productAdapter).createProduct(PRODUCT_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should soft delete a product")
+    void shouldDeleteProduct() {
+        // Act
+        ResponseEntity<ProductResponse> response = productController.deleteProduct(PRODUCT_ID, false);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        // Verify
+        verify(productAdapter).softDeleteProduct(PRODUCT_ID);
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.pixelpolo.hexagon.application.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pixelpolo.hexagon.common.utils.MemorySeedingUtils;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.CategoryAdapterMemory;
+import com.pixelpolo.hexagon.infrastructure.memory.adapter.ProductAdapterMemory;
+
+/**
+ * Integration tests for ReactiveCategoryController.
+ * The reactive stack runs on a real Netty server over the in-memory adapters, requests go through the network.
+ * The store adapters are covered by the CategoryController suites, these tests cover the WebFlux layer.
+ */
+@ActiveProfiles({"test", "memory", "reactive"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveCategoryControllerIntegrationTest {
+
+    // --- TESTS SETUP ---
+    // The stores are cleared and seeded again, IDs restart at 1.
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${api.version}")
+    private String apiVersion;
+    private String baseUrl;
+
+    @Autowired
+    private CategoryAdapterMemory categoryAdapterMemory;
+
+    @Autowired
+    private ProductAdapterMemory productAdapterMemory;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/" + apiVersion + "/categories";
+        MemorySeedingUtils.seed(categoryAdapterMemory, productAdapterMemory);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    // --- TESTS ---
+
+    @Test
+    @DisplayName("GET /api/{version}/categories?after= - Should walk all categories with cursors")
+    void shouldGetAllCategoriesWithCursor() throws Exception {
+        // Act
+        HttpResponse<String> first = send(HttpRequest.newBuilder(URI.create(baseUrl + "?after=&size=5&includeTotal=true")));
+        String nextCursor = first.headers().firstValue(CategoryController.NEXT_CURSOR_HEADER).orElseThrow();
+        HttpResponse<String> second = send(HttpRequest.newBuilder(URI.create(baseUrl + "?after=" + nextCursor + "&size=5")));
+
+        // Assert
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue(CategoryController.TOTAL_COUNT_HEADER)).hasValue("9");
+        assertThat(JsonPath.<List<Integer>>read(first.body(), "$[*].categoryId")).containsExactly(1, 2, 3, 4, 5);
+        assertThat(JsonPath.<List<Integer>>read(second.body(), "$[*].categoryId")).containsExactly(6, 7, 8, 9);
+        assertThat(second.headers().firstValue(CategoryController.NEXT_CURSOR_HEADER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/{id} - Should answer 304 for a current ETag")
+    void shouldGetCategoryByIdWithETag() throws Exception {
+        // Act
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/1")));
+        String eTag = response.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<String> notModified = send(HttpRequest.newBuilder(URI.create(baseUrl + "/1")).header("If-None-Match", eTag));
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(JsonPath.<String>read(response.body(), "$.name")).isEqualTo("Mobilité");
+        assertThat(notModified.statusCode()).isEqualTo(304);
+        assertThat(notModified.body()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/{id} - Should return a not found problem")
+    void shouldReturnNotFoundProblem() throws Exception {
+        // Act
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/99")));
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/problem+json"));
+        assertThat(JsonPath.<String>read(response.body(), "$.type")).isEqualTo("/problems/not-found");
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories - Should create a category, then reject its name")
+    void shouldCreateCategory() throws Exception {
+        // Act
+        HttpResponse<String> created = send(json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", "{\"name\":\"New\"}"));
+        HttpResponse<String> conflict = send(json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", "{\"name\":\"New\"}"));
+        HttpResponse<String> invalid = send(json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", "{\"name\":\"\"}"));
+
+        // Assert
+        assertThat(created.statusCode()).isEqualTo(201);
+        assertThat(created.headers().firstValue("Location")).hasValue("/api/" + apiVersion + "/categories/10");
+        assertThat(conflict.statusCode()).isEqualTo(409);
+        assertThat(JsonPath.<String>read(conflict.body(), "$.type")).isEqualTo("/problems/already-exists");
+        assertThat(invalid.statusCode()).isEqualTo(400);
+        assertThat(JsonPath.<List<String>>read(invalid.body(), "$.errors[*].field")).contains("name");
+    }
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/{id} - Should fail the precondition of a stale If-Match")
+    void shouldRejectStaleIfMatch() throws Exception {
+        // Act
+        HttpResponse<String> updated = send(json(HttpRequest.newBuilder(URI.create(baseUrl + "/1")).header("If-Match", "\"1-0\""),
+                                                 "PUT", "{\"name\":\"Renamed\"}"));
+        HttpResponse<String> stale = send(json(HttpRequest.newBuilder(URI.create(baseUrl + "/1")).header("If-Match", "\"1-0\""),
+                                               "PUT", "{\"name\":\"Renamed again\"}"));
+
+        // Assert
+        assertThat(updated.statusCode()).isEqualTo(200);
+        assertThat(updated.headers().firstValue("ETag")).hasValue("\"1-1\"");
+        assertThat(stale.statusCode()).isEqualTo(412);
+    }
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/batch/delete - Should report a result per ID")
+    void shouldDeleteCategories() throws Exception {
+        // Act
+        HttpResponse<String> response = send(json(HttpRequest.newBuilder(URI.create(baseUrl + "/batch/delete")),
+                                                  "POST", "[1, 1, null, 99]"));
+        HttpResponse<String> deleted = send(HttpRequest.newBuilder(URI.create(baseUrl + "/1")));
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(JsonPath.<List<Integer>>read(response.body(), "$[*].status")).containsExactly(204, 404, 400, 404);
+        assertThat(deleted.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("GET /api/{version}/categories/export - Should export the live categories as NDJSON")
+    void shouldExportCategories() throws Exception {
+        // Act
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/export")));
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/x-ndjson"));
+        assertThat(response.body().lines()).hasSize(9).first().satisfies(
+                line -> assertThat(JsonPath.<Integer>read(line, "$.categoryId")).isEqualTo(1));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder request, String method, String body) {
+        return request.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Abstract class of load benchmarks for CategoryController.
+ * Unlike the integration tests, requests go through the network to a real server (Tomcat, or Netty for the
+ * reactive stack), so the request execution mode (platform threads, virtual threads or event loop) is part of the measurement.
+ * Many concurrent clients call the by-ID and list endpoints, then throughput, latency percentiles
+ * and virtual thread pinning events (JFR) are printed.
+ * The list is read in cursor mode, which both stacks serve, so that their results compare side by side.
+ * The category cache is enabled as in production, so the pinning count covers its store loads as well.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles({"test", "postgres"})
+@TestPropertySource(properties = "category.cache.enabled=true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public abstract class CategoryControllerAbstractLoadBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    @ServiceConnection
+    protected static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    protected static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- BENCHMARK SETUP ---
+
+    private static final int CLIENTS = 1_000;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${api.version}")
+    private String apiVersion;
+
+    protected abstract String threadMode();
+
+    // --- BENCHMARK ---
+
+    @Test
+    @DisplayName("GET /api/{version}/categories - Load benchmark under high concurrency")
+    void shouldServeCategoriesUnderHighConcurrency() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api/" + apiVersion + "/categories";
+        List<HttpRequest> requests = List.of(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/1")).build(),
+                HttpRequest.newBuilder(URI.create(baseUrl + "?after=&size=10")).build());
+
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             RecordingStream pinning = new RecordingStream()) {
+            AtomicLong pinnedEvents = new AtomicLong();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            run(client, requests, WARMUP_REQUESTS_PER_CLIENT);
+            pinnedEvents.set(0);
+            long start = System.nanoTime();
+            Result result = run(client, requests, REQUESTS_PER_CLIENT);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("[benchmark] %s threads: %d clients, %.0f req/s, p50 %.2f ms, p99 %.2f ms, errors %d, pinned %d%n",
+                              threadMode(), CLIENTS, result.latencies().length / seconds,
+                              result.percentile(0.50), result.percentile(0.99), result.errors(), pinnedEvents.get());
+            assertThat(result.errors()).isZero();
+        }
+    }
+
+    // Each client is a virtual thread sending its requests sequentially
+    private Result run(HttpClient client, List<HttpRequest> requests, int requestsPerClient) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response =
+                                client.send(requests.get(i % requests.size()), HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - start;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long[] latencies = new long[CLIENTS * requestsPerClient];
+        for (int c = 0; c < CLIENTS; c++) {
+            System.arraycopy(futures.get(c).get(), 0, latencies, c * requestsPerClient, requestsPerClient);
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, errors.get());
+    }
+
+    private record Result(long[] latencies, long errors) {
+
+        // Sorted latencies, in milliseconds
+        double percentile(double percentile) {
+            return latencies[(int) Math.ceil(percentile * latencies.length) - 1] / 1e6;
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Load benchmark for CategoryController with the default Tomcat platform thread pool.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class CategoryControllerPlatformThreadsLoadBenchmarkTest extends CategoryControllerAbstractLoadBenchmarkTest {
+
+    @Override
+    protected String threadMode() {
+        return "platform";
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Load benchmark for ReactiveCategoryController, WebFlux on Netty over R2DBC.
+ * Requests are executed on the event loop, a few threads whatever the number of clients.
+ */
+@ActiveProfiles("reactive")
+class CategoryControllerReactiveLoadBenchmarkTest extends CategoryControllerAbstractLoadBenchmarkTest {
+
+    @Override
+    protected String threadMode() {
+        return "event-loop";
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Load benchmark for CategoryController with requests executed on virtual threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class CategoryControllerVirtualThreadsLoadBenchmarkTest extends CategoryControllerAbstractLoadBenchmarkTest {
+
+    @Override
+    protected String threadMode() {
+        return "virtual";
+    }
+
+}
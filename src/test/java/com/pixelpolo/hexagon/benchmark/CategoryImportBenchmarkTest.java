@@ -0,0 +1,104 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Benchmark of the streaming import against PostgreSQL.
+ * The NDJSON body is generated while it is sent, neither the client nor the server holds it in memory,
+ * then the number of imported records per second is printed.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles({"test", "postgres"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CategoryImportBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- BENCHMARK SETUP ---
+
+    private static final int RECORDS = 500_000;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${api.version}")
+    private String apiVersion;
+
+    // --- BENCHMARK ---
+
+    @Test
+    @DisplayName("POST /api/{version}/categories/import - Import benchmark")
+    void shouldImportCategoriesQuickly() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/" + apiVersion + "/categories/import");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(CategoryImportBenchmarkTest::records))
+                .build();
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            int created = JsonPath.read(response.body(), "$.created");
+            System.out.printf("[benchmark] import: %d records in %.2f s, %.0f records/s%n",
+                              created, seconds, created / seconds);
+            assertThat(created).isEqualTo(RECORDS);
+        }
+    }
+
+    // One record at a time, generated on demand
+    private static InputStream records() {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < RECORDS;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String line = "{\"name\":\"Imported " + next++ + "\"}\n";
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+}
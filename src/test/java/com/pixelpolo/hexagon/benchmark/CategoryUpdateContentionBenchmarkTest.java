@@ -0,0 +1,131 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Benchmark of optimistic locking under contention against PostgreSQL.
+ * Parallel writers update the same category: each reads it, then updates it with If-Match
+ * and reads it again after a 412 until its update goes through.
+ * The retry rate and the throughput of successful updates are printed,
+ * the final version proves that no update was lost.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles({"test", "postgres"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CategoryUpdateContentionBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- BENCHMARK SETUP ---
+
+    private static final int[] WRITERS = {1, 4, 16, 64};
+    private static final int UPDATES_PER_WRITER = 50;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${api.version}")
+    private String apiVersion;
+
+    // --- BENCHMARK ---
+
+    @Test
+    @DisplayName("PUT /api/{version}/categories/1 - Contention benchmark with If-Match")
+    void shouldNotLoseUpdatesUnderContention() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/" + apiVersion + "/categories/1");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            long expectedVersion = version(client, uri);
+            for (int writers : WRITERS) {
+                AtomicLong attempts = new AtomicLong();
+                long start = System.nanoTime();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    List<Future<?>> futures = new ArrayList<>(writers);
+                    for (int w = 0; w < writers; w++) {
+                        int writer = w;
+                        futures.add(executor.submit(() -> {
+                            for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                                update(client, uri, "Contended " + writers + "-" + writer + "-" + i, attempts);
+                            }
+                            return null;
+                        }));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                long updates = (long) writers * UPDATES_PER_WRITER;
+                long retries = attempts.get() - updates;
+                System.out.printf("[benchmark] contention: %d writers, %d updates in %.2f s, %.0f updates/s, "
+                                          + "%d retries, %.1f%% retry rate%n",
+                                  writers, updates, seconds, updates / seconds,
+                                  retries, 100.0 * retries / attempts.get());
+
+                expectedVersion += updates;
+                assertThat(version(client, uri)).isEqualTo(expectedVersion);
+            }
+        }
+    }
+
+    // Reads the current ETag and updates with it, again after each 412
+    private static void update(HttpClient client, URI uri, String name, AtomicLong attempts) throws Exception {
+        while (true) {
+            String eTag = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                    .headers().firstValue("ETag").orElseThrow();
+            HttpRequest put = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .header("If-Match", eTag)
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + name + "\"}"))
+                    .build();
+            int status = client.send(put, HttpResponse.BodyHandlers.discarding()).statusCode();
+            attempts.incrementAndGet();
+            if (status == 200) {
+                return;
+            }
+            assertThat(status).isEqualTo(412);
+        }
+    }
+
+    private static long version(HttpClient client, URI uri) throws Exception {
+        String body = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()).body();
+        return ((Number) JsonPath.read(body, "$.version")).longValue();
+    }
+
+}
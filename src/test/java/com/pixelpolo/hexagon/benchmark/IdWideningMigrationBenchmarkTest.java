@@ -0,0 +1,143 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Benchmark of the SMALLINT to BIGINT widening migrations (V4 to V7).
+ * SMALLINT keys cap the tables at 32,767 rows, so the product table is filled up to that limit.
+ * Each migration is timed while a writer keeps inserting categories, the longest insert shows
+ * how long writes were blocked. Only the swap (V6) blocks writes and its duration does not depend
+ * on the table size, the backfill and index builds grow linearly but let writes through.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+class IdWideningMigrationBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- BENCHMARK SETUP ---
+
+    // Leaves room in the SMALLINT identity for the writer
+    private static final int CATEGORIES = 20_000;
+    private static final int PRODUCTS = Short.MAX_VALUE;
+    private static final List<String> STEPS = List.of("4", "5", "6", "7");
+
+    // --- BENCHMARK ---
+
+    @Test
+    @DisplayName("Flyway V4 to V7 - Should widen the IDs while writes keep going")
+    void shouldWidenIdsOnline() throws Exception {
+        migrate("3");
+        seed();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong writes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong longestWrite = new AtomicLong();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            try (Connection connection = connect();
+                 PreparedStatement insert = connection.prepareStatement("INSERT INTO \"category\" (\"name\") VALUES (?)")) {
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    try {
+                        insert.setString(1, "Writer " + writes.incrementAndGet());
+                        insert.executeUpdate();
+                    } catch (SQLException e) {
+                        errors.incrementAndGet();
+                    }
+                    longestWrite.accumulateAndGet(System.nanoTime() - start, Math::max);
+                }
+            } catch (SQLException e) {
+                errors.incrementAndGet();
+            }
+        });
+
+        try {
+            for (String step : STEPS) {
+                longestWrite.set(0);
+                long start = System.nanoTime();
+                migrate(step);
+                System.out.printf("[benchmark] V%s: %d products, %.0f ms, longest concurrent insert %.2f ms%n",
+                                  step, PRODUCTS, (System.nanoTime() - start) / 1e6, longestWrite.get() / 1e6);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        System.out.printf("[benchmark] %d concurrent inserts, errors %d%n", writes.get(), errors.get());
+        assertThat(errors.get()).isZero();
+        assertThat(columnType("category", "category_id")).isEqualTo("bigint");
+        assertThat(columnType("product", "product_id")).isEqualTo("bigint");
+        assertThat(columnType("product", "category_id")).isEqualTo("bigint");
+    }
+
+    // Fills both tables next to the 9 categories and 7 products of V2
+    private void seed() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO "category" ("category_id", "name")
+                    SELECT g, 'Category ' || g FROM generate_series(10, %d) g
+                    """.formatted(CATEGORIES));
+            statement.execute("""
+                    SELECT setval(pg_get_serial_sequence('"category"', 'category_id'), %d)
+                    """.formatted(CATEGORIES));
+            statement.execute("""
+                    INSERT INTO "product" ("product_id", "category_id", "name")
+                    SELECT g, 1 + g %% %d, 'Product ' || g FROM generate_series(8, %d) g
+                    """.formatted(CATEGORIES, PRODUCTS));
+        }
+    }
+
+    private String columnType(String table, String column) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement query = connection.prepareStatement(
+                     "SELECT data_type FROM information_schema.columns WHERE table_name = ? AND column_name = ?")) {
+            query.setString(1, table);
+            query.setString(2, column);
+            try (ResultSet result = query.executeQuery()) {
+                return result.next() ? result.getString(1) : null;
+            }
+        }
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(PSQL_CONTAINER.getJdbcUrl(), PSQL_CONTAINER.getUsername(), PSQL_CONTAINER.getPassword())
+                .locations("classpath:db/migration")
+                .target(target)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                PSQL_CONTAINER.getJdbcUrl(), PSQL_CONTAINER.getUsername(), PSQL_CONTAINER.getPassword());
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.pixelpolo.hexagon.HexagonApplication;
+
+/**
+ * Benchmark of the startup time of HexagonApplication for each profile.
+ * Each run is a fresh JVM on the test classpath, as a new instance would be, and the time
+ * from the process start to the first successful GET /categories/1 is recorded.
+ * The first run of a profile migrates and seeds the databases and is not counted.
+ * JVM options to compare (e.g. -Dspring.aot.enabled=true after mvn process-aot, -XX:SharedArchiveFile=...)
+ * are given with -Dstartup.jvm-args.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+class StartupBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    private static final String USER = "hexagon_user";
+    private static final String PASSWORD = "hexagon_password";
+    private static final String DATABASE = "hexagon_database";
+
+    // The application authenticates against MongoDB, unlike the single node replica set of MongoDBContainer
+    @Container
+    private static final GenericContainer<?> MONGO_CONTAINER = new GenericContainer<>("mongo:latest")
+            .withEnv("MONGO_INITDB_ROOT_USERNAME", USER)
+            .withEnv("MONGO_INITDB_ROOT_PASSWORD", PASSWORD)
+            .withExposedPorts(27017);
+
+    @Container
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest")
+            .withUsername(USER)
+            .withPassword(PASSWORD)
+            .withDatabaseName(DATABASE);
+
+    // --- BENCHMARK SETUP ---
+
+    private static final int RUNS = 5;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    // --- BENCHMARK ---
+
+    @ParameterizedTest
+    @ValueSource(strings = {"postgres", "mongo", "memory"})
+    @DisplayName("HexagonApplication - Time to first request benchmark")
+    void shouldServeFirstRequestQuickly(String profile) throws Exception {
+        startAndMeasure(profile);
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            millis[i] = startAndMeasure(profile);
+        }
+        Arrays.sort(millis);
+        System.out.printf("[benchmark] startup %s: first request after %d ms (median), %d ms (min), runs %s%n",
+                          profile, millis[RUNS / 2], millis[0], Arrays.toString(millis));
+    }
+
+    // Milliseconds from the process start to the first 200
+    private static long startAndMeasure(String profile) throws Exception {
+        int port = freePort();
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/categories/1");
+        Process process = start(profile, port);
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            long start = System.nanoTime();
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive()).as("application process exited").isTrue();
+                if (isOk(client, uri)) {
+                    return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new AssertionError("No successful request within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static Process start(String profile, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty("startup.jvm-args", "");
+        if (!jvmArgs.isBlank()) {
+            command.addAll(List.of(jvmArgs.trim().split("\\s+")));
+        }
+        command.addAll(List.of(
+                "-cp", System.getProperty("java.class.path"),
+                "-Dserver.port=" + port,
+                "-Dspring.profiles.active=" + profile,
+                "-Dspring.mongodb.port=" + MONGO_CONTAINER.getMappedPort(27017),
+                // Devtools would run the application in a restart class loader
+                "-Dspring.devtools.restart.enabled=false",
+                HexagonApplication.class.getName()));
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().putAll(Map.of(
+                "POSTGRES_HOST", PSQL_CONTAINER.getHost(),
+                "POSTGRES_PORT", String.valueOf(PSQL_CONTAINER.getMappedPort(5432)),
+                "POSTGRES_DATABASE", DATABASE,
+                "POSTGRES_USER", USER,
+                "POSTGRES_PASSWORD", PASSWORD,
+                "MONGO_HOST", MONGO_CONTAINER.getHost(),
+                "MONGO_DATABASE", DATABASE,
+                "MONGO_USER", USER,
+                "MONGO_PASSWORD", PASSWORD));
+        return builder.start();
+    }
+
+    // Refused connections are expected until Tomcat listens
+    private static boolean isOk(HttpClient client, URI uri) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
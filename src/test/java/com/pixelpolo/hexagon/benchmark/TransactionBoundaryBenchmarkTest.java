@@ -0,0 +1,153 @@
+package com.pixelpolo.hexagon.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.pixelpolo.hexagon.infrastructure.postgres.adapter.CategoryAdapterJpa;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Benchmark of the transaction boundaries against PostgreSQL.
+ * The JDBC statements, connections, flushes and transactions per request are read from the Hibernate statistics,
+ * along with the mean latency, for the reads and for an update failing on its version (update and lookup).
+ * The same reads are then run in read-only and in read-write transactions.
+ * Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles({"test", "postgres"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TransactionBoundaryBenchmarkTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // --- BENCHMARK SETUP ---
+
+    private static final int WARMUP = 200;
+    private static final int REQUESTS = 1_000;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${api.version}")
+    private String apiVersion;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryAdapterJpa categoryAdapterJpa;
+
+    // --- BENCHMARK ---
+
+    @Test
+    @DisplayName("GET and PUT /api/{version}/... - Statements and latency per request")
+    void shouldPrintStatementsPerRequest() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String base = "http://localhost:" + port + "/api/" + apiVersion;
+        HttpRequest stalePut = HttpRequest.newBuilder(URI.create(base + "/categories/1"))
+                .header("Content-Type", "application/json")
+                .header("If-Match", "\"1-999\"")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Stale\"}"))
+                .build();
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            measure(statistics, "GET /categories/1", client, HttpRequest.newBuilder(URI.create(base + "/categories/1")).build(), 200);
+            measure(statistics, "GET /categories", client, HttpRequest.newBuilder(URI.create(base + "/categories?after=&size=10")).build(), 200);
+            measure(statistics, "GET /products/1", client, HttpRequest.newBuilder(URI.create(base + "/products/1")).build(), 200);
+            measure(statistics, "GET /products", client, HttpRequest.newBuilder(URI.create(base + "/products?size=10")).build(), 200);
+            measure(statistics, "PUT /categories/1 (stale)", client, stalePut, 412);
+        }
+    }
+
+    @Test
+    @DisplayName("Read-only against read-write transactions for the same reads")
+    void shouldCompareReadOnlyWithReadWrite() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (boolean readOnly : new boolean[]{false, true}) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(readOnly);
+            Runnable read = () -> template.executeWithoutResult(status -> {
+                categoryAdapterJpa.findAll(ScrollPosition.keyset(), Sort.by("categoryId"), 100);
+                categoryAdapterJpa.findById(1);
+            });
+
+            for (int i = 0; i < WARMUP; i++) {
+                read.run();
+            }
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                read.run();
+            }
+            double micros = (System.nanoTime() - start) / 1e3 / REQUESTS;
+
+            System.out.printf("[benchmark] transactions: %s, %.1f us, %.2f statements, %.2f flushes per transaction%n",
+                              readOnly ? "read-only" : "read-write", micros,
+                              (double) statistics.getPrepareStatementCount() / REQUESTS,
+                              (double) statistics.getFlushCount() / REQUESTS);
+            if (readOnly) {
+                assertThat(statistics.getFlushCount()).isZero();
+            }
+        }
+    }
+
+    private static void measure(Statistics statistics, String name, HttpClient client,
+                                HttpRequest request, int expectedStatus) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(expectedStatus);
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / REQUESTS;
+
+        System.out.printf("[benchmark] %s: %.2f ms, %.2f statements, %.2f connections, %.2f transactions, "
+                                  + "%.2f flushes per request%n",
+                          name, millis,
+                          (double) statistics.getPrepareStatementCount() / REQUESTS,
+                          (double) statistics.getConnectCount() / REQUESTS,
+                          (double) statistics.getTransactionCount() / REQUESTS,
+                          (double) statistics.getFlushCount() / REQUESTS);
+    }
+
+}
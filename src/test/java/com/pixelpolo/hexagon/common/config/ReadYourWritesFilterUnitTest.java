@@ -0,0 +1,69 @@
+package com.pixelpolo.hexagon.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.pixelpolo.hexagon.infrastructure.postgres.datasource.ReplicaRoutingDataSource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Unit tests for ReadYourWritesFilter.
+ * The chain records whether the request ran pinned to the primary, the pin is released after it.
+ */
+class ReadYourWritesFilterUnitTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("Should pin a write and the next reads of the same client to the primary")
+    void shouldPinClientAfterWrite() throws Exception {
+        // Arrange
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/v1/categories/1");
+
+        // Act
+        boolean writePinned = run(new MockHttpServletRequest("PUT", "/api/v1/categories/1"), writeResponse);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        read.setCookies(cookie);
+        boolean readPinned = run(read, new MockHttpServletResponse());
+
+        // Assert
+        assertThat(writePinned).isTrue();
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(10);
+        assertThat(readPinned).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave the reads without a valid pin on the replicas")
+    void shouldNotPinOtherReads() throws Exception {
+        // Arrange
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/categories");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        MockHttpServletRequest tooFar = new MockHttpServletRequest("GET", "/api/v1/categories");
+        tooFar.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE)));
+
+        // Act & Assert
+        assertThat(run(new MockHttpServletRequest("GET", "/api/v1/categories"), new MockHttpServletResponse())).isFalse();
+        assertThat(run(expired, new MockHttpServletResponse())).isFalse();
+        assertThat(run(tooFar, new MockHttpServletResponse())).isFalse();
+    }
+
+    private boolean run(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary());
+        filter.doFilter(request, response, chain);
+        assertThat(ReplicaRoutingDataSource.isPinnedToPrimary()).isFalse();
+        return pinned.get();
+    }
+
+}
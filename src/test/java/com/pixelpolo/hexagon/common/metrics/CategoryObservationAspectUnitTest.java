@@ -0,0 +1,111 @@
+package com.pixelpolo.hexagon.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.in.CategoryUseCase;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+import com.pixelpolo.hexagon.domain.service.CategoryService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryObservationAspectUnitTest {
+
+    private static final Long CATEGORY_ID = 1L;
+    private static final Category CATEGORY = Category.builder().categoryId(CATEGORY_ID).name("Category").build();
+
+    @Mock
+    private CategoryPort categoryPort;
+
+    private MeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+    private CategoryUseCase categoryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("mongo");
+        CategoryObservationAspect aspect = new CategoryObservationAspect(observationRegistry, meterRegistry, environment);
+
+        // Both ports are proxied with the aspect, as Spring would do with the beans
+        categoryUseCase = proxy(new CategoryService(proxy(categoryPort, aspect)), aspect);
+    }
+
+    @Test
+    @DisplayName("Should time the use case and the port calls")
+    void shouldTimeUseCaseAndPortCalls() {
+        // Arrange
+        when(categoryPort.findCurrentById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+
+        // Act
+        categoryUseCase.getById(CATEGORY_ID);
+
+        // Assert
+        assertThat(meterRegistry.get(CategoryObservationAspect.USE_CASE_OBSERVATION)
+                           .tag("class", "CategoryService").tag("method", "getById").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(CategoryObservationAspect.PORT_OBSERVATION)
+                           .tag("method", "findCurrentById").tag("store", "mongo").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count the domain exceptions")
+    void shouldCountDomainExceptions() {
+        // Arrange
+        when(categoryPort.findCurrentById(CATEGORY_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryUseCase.getById(CATEGORY_ID))
+                .isInstanceOf(CategoryNotFoundException.class);
+        assertThat(meterRegistry.get(CategoryObservationAspect.EXCEPTION_COUNTER)
+                           .tag("exception", "CategoryNotFoundException").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag the port calls with the in-memory store")
+    void shouldTagMemoryStore() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("memory");
+        CategoryObservationAspect aspect = new CategoryObservationAspect(observationRegistry, meterRegistry, environment);
+        when(categoryPort.count()).thenReturn(1L);
+
+        // Act
+        proxy(categoryPort, aspect).count();
+
+        // Assert
+        assertThat(meterRegistry.get(CategoryObservationAspect.PORT_OBSERVATION)
+                           .tag("method", "count").tag("store", "memory").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static <T> T proxy(T target, CategoryObservationAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+}
@@ -1,10 +1,18 @@
 package com.pixelpolo.hexagon.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +20,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
 import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
 import com.pixelpolo.hexagon.domain.model.Category;
 import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
 
@@ -33,6 +49,8 @@ public class CategoryServiceUnitTest {
     private static final List<Category> CATEGORIES = List.of(CATEGORY_ONE, CATEGORY_TWO);
 
     private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+    private static final KeysetScrollPosition SCROLL_POSITION = ScrollPosition.keyset();
+    private static final Sort SORT = Sort.by("categoryId");
     private static final Page<Category> CATEGORY_PAGE = new PageImpl<>(List.of(CATEGORY_ONE, CATEGORY_TWO), PAGEABLE, CATEGORIES.size());
 
     // Only mocking the PORT OUT dependency
@@ -87,10 +105,72 @@ public class CategoryServiceUnitTest {
     }
 
     @Test
-    @DisplayName("Should find category by ID")
+    @DisplayName("Should find a slice of categories without counting")
+    void shouldFindSliceOfCategories() {
+        // Arrange
+        Slice<Category> slice = new SliceImpl<>(CATEGORIES, PAGEABLE, false);
+        when(categoryPort.findSlice(PAGEABLE)).thenReturn(slice);
+
+        // Act
+        Slice<Category> resultCategories = categoryService.getSlice(PAGEABLE);
+
+        // Assert
+        assertThat(resultCategories.getContent())
+                .extracting(Category::getName)
+                .containsExactly(CATEGORY_NAME_ONE, CATEGORY_NAME_TWO);
+
+        // Verify
+        verify(categoryPort).findSlice(PAGEABLE);
+        verify(categoryPort, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should scroll all categories")
+    void shouldScrollAllCategories() {
+        // Arrange
+        Window<Category> window = Window.from(CATEGORIES, ScrollPosition::offset);
+        when(categoryPort.findAll(SCROLL_POSITION, SORT, 10)).thenReturn(window);
+
+        // Act
+        Window<Category> resultCategories = categoryService.getAll(SCROLL_POSITION, SORT, 10);
+
+        // Assert
+        assertThat(resultCategories.getContent())
+                .extracting(Category::getName)
+                .containsExactly(CATEGORY_NAME_ONE, CATEGORY_NAME_TWO);
+
+        // Verify
+        verify(categoryPort).findAll(SCROLL_POSITION, SORT, 10);
+    }
+
+    @Test
+    @DisplayName("Should export all categories through the port stream")
+    void shouldExportAllCategories() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Category> action = invocation.getArgument(0);
+            CATEGORIES.forEach(action);
+            return null;
+        }).when(categoryPort).streamAll(any());
+        List<Category> exported = new ArrayList<>();
+
+        // Act
+        categoryService.exportAll(exported::add);
+
+        // Assert
+        assertThat(exported)
+                .extracting(Category::getName)
+                .containsExactly(CATEGORY_NAME_ONE, CATEGORY_NAME_TWO);
+
+        // Verify
+        verify(categoryPort).streamAll(any());
+    }
+
+    @Test
+    @DisplayName("Should find category by ID in the store, not in a cache")
     void shouldFindCategoryById() {
         // Arrange
-        when(categoryPort.findById(CATEGORY_ID_ONE)).thenReturn(CATEGORY_ONE);
+        when(categoryPort.findCurrentById(CATEGORY_ID_ONE)).thenReturn(Optional.of(CATEGORY_ONE));
 
         // Act
         Category resultCategory = categoryService.getById(1L);
@@ -101,15 +181,30 @@ public class CategoryServiceUnitTest {
                 .isEqualTo(CATEGORY_NAME_ONE);
 
         // Verify
-        verify(categoryPort).findById(1L);
+        verify(categoryPort).findCurrentById(1L);
+    }
+
+    @Test
+    @DisplayName("Should throw a stackless exception when the category is not found by ID")
+    void shouldThrowWhenCategoryNotFoundById() {
+        // Arrange
+        when(categoryPort.findCurrentById(CATEGORY_ID_ONE)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.getById(1L))
+                .isInstanceOf(CategoryNotFoundException.class)
+                .hasMessage("Category with ID 1 not found.")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+
+        // Verify
+        verify(categoryPort).findCurrentById(1L);
     }
 
     @Test
     @DisplayName("Should create a new category")
     void shouldCreateNewCategory() {
         // Arrange
-        when(categoryPort.findByName(CATEGORY_NAME_ONE)).thenThrow(CategoryNotFoundException.class);
-        when(categoryPort.save(CATEGORY_ONE)).thenReturn(CATEGORY_ONE);
+        when(categoryPort.insert(CATEGORY_ONE)).thenReturn(CATEGORY_ONE);
 
         // Act
         Category resultCategory = categoryService.create(CATEGORY_ONE);
@@ -120,16 +215,27 @@ public class CategoryServiceUnitTest {
                 .isEqualTo(CATEGORY_NAME_ONE);
 
         // Verify
-        verify(categoryPort).save(CATEGORY_ONE);
+        verify(categoryPort).insert(CATEGORY_ONE);
+        verify(categoryPort, never()).findByName(CATEGORY_NAME_ONE);
+    }
+
+    @Test
+    @DisplayName("Should not create a category with an existing name")
+    void shouldNotCreateCategoryWithExistingName() {
+        // Arrange
+        when(categoryPort.insert(CATEGORY_ONE)).thenThrow(new CategoryExistException(CATEGORY_NAME_ONE));
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.create(CATEGORY_ONE))
+                .isInstanceOf(CategoryExistException.class);
     }
 
     @Test
     @DisplayName("Should update an existing category")
     void shouldUpdateExistingCategory() {
         // Arrange
-        when(categoryPort.findByName(CATEGORY_NAME_TWO)).thenThrow(CategoryNotFoundException.class);
-        when(categoryPort.findById(CATEGORY_ID_ONE)).thenReturn(CATEGORY_ONE);
-        when(categoryPort.save(CATEGORY_ONE)).thenReturn(CATEGORY_ONE);
+        Category updated = Category.builder().categoryId(CATEGORY_ID_ONE).name(CATEGORY_NAME_TWO).build();
+        when(categoryPort.update(CATEGORY_ID_ONE, CATEGORY_TWO)).thenReturn(updated);
 
         // Act
         Category resultCategory = categoryService.update(CATEGORY_ID_ONE, CATEGORY_TWO);
@@ -140,7 +246,107 @@ public class CategoryServiceUnitTest {
                 .isEqualTo(CATEGORY_NAME_TWO);
 
         // Verify
-        verify(categoryPort).save(CATEGORY_ONE);
+        verify(categoryPort).update(CATEGORY_ID_ONE, CATEGORY_TWO);
+        verify(categoryPort, never()).findById(CATEGORY_ID_ONE);
+    }
+
+    @Test
+    @DisplayName("Should not update a non-existing category")
+    void shouldNotUpdateNonExistingCategory() {
+        // Arrange
+        when(categoryPort.update(CATEGORY_ID_ONE, CATEGORY_TWO)).thenThrow(new CategoryNotFoundException(CATEGORY_ID_ONE));
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.update(CATEGORY_ID_ONE, CATEGORY_TWO))
+                .isInstanceOf(CategoryNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should create categories in one batch and report duplicates as conflicts")
+    void shouldCreateAllCategories() {
+        // Arrange
+        Category existing = Category.builder().name(CATEGORY_NAME_TWO).build();
+        Category duplicate = Category.builder().name(CATEGORY_NAME_ONE).build();
+        when(categoryPort.insertAll(List.of(CATEGORY_ONE, existing))).thenReturn(List.of(CATEGORY_ONE));
+
+        // Act
+        List<BulkItemResult> results = categoryService.createAll(List.of(CATEGORY_ONE, existing, duplicate));
+
+        // Assert
+        assertThat(results)
+                .extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemResult.Status.CREATED, BulkItemResult.Status.CONFLICT, BulkItemResult.Status.CONFLICT);
+        assertThat(results.getFirst().getCategoryId()).isEqualTo(CATEGORY_ID_ONE);
+
+        // Verify
+        verify(categoryPort).insertAll(List.of(CATEGORY_ONE, existing));
+        verify(categoryPort, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Should update categories in one batch and explain the failed items")
+    void shouldUpdateAllCategories() {
+        // Arrange
+        Category missing = Category.builder().categoryId(3L).name("Category 3").build();
+        when(categoryPort.inTransaction(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(categoryPort.updateAll(List.of(CATEGORY_ONE, missing))).thenReturn(List.of(CATEGORY_ONE));
+        when(categoryPort.update(3L, missing)).thenThrow(new CategoryNotFoundException(3L));
+
+        // Act
+        List<BulkItemResult> results = categoryService.updateAll(List.of(CATEGORY_ONE, missing));
+
+        // Assert
+        assertThat(results)
+                .extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemResult.Status.UPDATED, BulkItemResult.Status.NOT_FOUND);
+
+        // Verify
+        verify(categoryPort, never()).update(CATEGORY_ID_ONE, CATEGORY_ONE);
+    }
+
+    @Test
+    @DisplayName("Should soft delete categories in one batch")
+    void shouldSoftDeleteAllCategories() {
+        // Arrange
+        when(categoryPort.softDeleteAll(List.of(CATEGORY_ID_ONE, CATEGORY_ID_TWO))).thenReturn(List.of(CATEGORY_ID_ONE));
+
+        // Act
+        List<BulkItemResult> results = categoryService.softDeleteAll(List.of(CATEGORY_ID_ONE, CATEGORY_ID_TWO, CATEGORY_ID_ONE));
+
+        // Assert
+        assertThat(results)
+                .extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemResult.Status.DELETED, BulkItemResult.Status.NOT_FOUND, BulkItemResult.Status.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should hard delete categories in one batch and report the referenced ones as conflicts")
+    void shouldHardDeleteAllCategoriesExceptReferenced() {
+        // Arrange
+        List<Long> ids = List.of(CATEGORY_ID_ONE, CATEGORY_ID_TWO, 3L);
+        when(categoryPort.hardDeleteAll(ids)).thenReturn(List.of(CATEGORY_ID_ONE));
+        when(categoryPort.findReferencedIds(ids)).thenReturn(List.of(CATEGORY_ID_TWO));
+
+        // Act
+        List<BulkItemResult> results = categoryService.hardDeleteAll(ids);
+
+        // Assert
+        assertThat(results)
+                .extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemResult.Status.DELETED, BulkItemResult.Status.CONFLICT, BulkItemResult.Status.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should not look up references when every category was hard deleted")
+    void shouldHardDeleteAllCategoriesWithoutReferenceLookup() {
+        // Arrange
+        when(categoryPort.hardDeleteAll(List.of(CATEGORY_ID_ONE))).thenReturn(List.of(CATEGORY_ID_ONE));
+
+        // Act
+        categoryService.hardDeleteAll(List.of(CATEGORY_ID_ONE));
+
+        // Verify
+        verify(categoryPort, never()).findReferencedIds(any());
     }
 
     @Test
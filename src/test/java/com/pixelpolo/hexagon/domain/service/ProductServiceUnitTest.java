@@ -0,0 +1,139 @@
+package com.pixelpolo.hexagon.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.model.Product;
+import com.pixelpolo.hexagon.domain.model.ProductBulkItemResult;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+import com.pixelpolo.hexagon.domain.port.out.ProductPort;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceUnitTest {
+
+    private static final Long CATEGORY_ID = 1L;
+    private static final Long PRODUCT_ID = 1L;
+    private static final String PRODUCT_NAME = "Product";
+    private static final Category CATEGORY = Category.builder().categoryId(CATEGORY_ID).name("Category").build();
+    private static final KeysetScrollPosition SCROLL_POSITION = ScrollPosition.keyset();
+
+    // Only mocking the PORT OUT dependencies
+    @Mock
+    private ProductPort productPort;
+
+    @Mock
+    private CategoryPort categoryPort;
+
+    // Testing the PORT IN implementation
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService(productPort, categoryPort);
+    }
+
+    @Test
+    @DisplayName("Should create a product in an existing category")
+    void shouldCreateProduct() {
+        // Arrange
+        Product product = Product.builder()
+                .name(PRODUCT_NAME).category(Category.builder().categoryId(CATEGORY_ID).build()).build();
+        Product created = Product.builder().productId(PRODUCT_ID).name(PRODUCT_NAME).category(CATEGORY).build();
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        when(productPort.insert(product)).thenReturn(created);
+
+        // Act
+        Product resultProduct = productService.create(product);
+
+        // Assert
+        assertThat(resultProduct.getCategory().getName()).isEqualTo("Category");
+        assertThat(product.getCategory()).isSameAs(CATEGORY);
+
+        // Verify
+        verify(productPort).insert(product);
+    }
+
+    @Test
+    @DisplayName("Should create products in one batch and explain the failed items")
+    void shouldCreateAllProducts() {
+        // Arrange
+        Product product = Product.builder()
+                .name(PRODUCT_NAME).category(Category.builder().categoryId(CATEGORY_ID).build()).build();
+        Product duplicate = Product.builder()
+                .name(PRODUCT_NAME).category(Category.builder().categoryId(CATEGORY_ID).build()).build();
+        Product orphan = Product.builder()
+                .name("Orphan").category(Category.builder().categoryId(2L).build()).build();
+        Product created = Product.builder().productId(PRODUCT_ID).name(PRODUCT_NAME).category(CATEGORY).build();
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        when(categoryPort.findById(2L)).thenReturn(Optional.empty());
+        when(productPort.insertAll(List.of(product))).thenReturn(List.of(created));
+
+        // Act
+        List<ProductBulkItemResult> results = productService.createAll(List.of(product, orphan, duplicate));
+
+        // Assert
+        assertThat(results)
+                .extracting(ProductBulkItemResult::getStatus)
+                .containsExactly(BulkItemResult.Status.CREATED, BulkItemResult.Status.NOT_FOUND, BulkItemResult.Status.CONFLICT);
+        assertThat(results.getFirst().getProductId()).isEqualTo(PRODUCT_ID);
+
+        // Verify
+        verify(categoryPort).findById(CATEGORY_ID);
+        verify(productPort, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Should not create a product in a non-existing category")
+    void shouldNotCreateProductInNonExistingCategory() {
+        // Arrange
+        Product product = Product.builder()
+                .name(PRODUCT_NAME).category(Category.builder().categoryId(CATEGORY_ID).build()).build();
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.create(product))
+                .isInstanceOf(CategoryNotFoundException.class);
+
+        // Verify
+        verify(productPort, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Should get all products of a category")
+    void shouldGetAllProductsOfCategory() {
+        // Arrange
+        Product product = Product.builder().productId(PRODUCT_ID).name(PRODUCT_NAME).category(CATEGORY).build();
+        Window<Product> window = Window.from(List.of(product), ScrollPosition::offset);
+        when(productPort.findAll(CATEGORY_ID, SCROLL_POSITION, 10)).thenReturn(window);
+
+        // Act
+        Window<Product> resultWindow = productService.getAll(CATEGORY_ID, SCROLL_POSITION, 10);
+
+        // Assert
+        assertThat(resultWindow.getContent()).containsExactly(product);
+
+        // Verify
+        verify(categoryPort, never()).findById(CATEGORY_ID);
+    }
+
+}
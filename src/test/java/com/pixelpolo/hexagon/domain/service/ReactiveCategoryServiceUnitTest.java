@@ -0,0 +1,139 @@
+package com.pixelpolo.hexagon.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryNotFoundException;
+import com.pixelpolo.hexagon.domain.model.BulkItemResult;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.ReactiveCategoryPort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ReactiveCategoryService.
+ * The bulk rules are shared with CategoryService, these tests check they apply to the reactive port as well.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveCategoryServiceUnitTest {
+
+    private static final Category CATEGORY_ONE = Category.builder().categoryId(1L).name("Category 1").build();
+    private static final Category CATEGORY_TWO = Category.builder().categoryId(2L).name("Category 2").build();
+
+    // Only mocking the PORT OUT dependency
+    @Mock
+    private ReactiveCategoryPort categoryPort;
+
+    // Testing the PORT IN implementation
+    private ReactiveCategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        categoryService = new ReactiveCategoryService(categoryPort);
+    }
+
+    @Test
+    @DisplayName("Should get a category by ID")
+    void shouldGetCategoryById() {
+        // Arrange
+        when(categoryPort.findById(1L)).thenReturn(Mono.just(CATEGORY_ONE));
+
+        // Act & Assert
+        StepVerifier.create(categoryService.getById(1L))
+                .expectNext(CATEGORY_ONE)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal CategoryNotFoundException for a missing category")
+    void shouldSignalNotFound() {
+        // Arrange
+        when(categoryPort.findById(3L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(categoryService.getById(3L))
+                .expectError(CategoryNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should insert a repeated name once and report the others as conflicts")
+    void shouldCreateAllWithDuplicateNames() {
+        // Arrange
+        Category duplicate = Category.builder().name(CATEGORY_ONE.getName()).build();
+        List<Category> requested = List.of(Category.builder().name(CATEGORY_ONE.getName()).build(),
+                                           duplicate,
+                                           Category.builder().name(CATEGORY_TWO.getName()).build());
+        when(categoryPort.insertAll(List.of(requested.get(0), requested.get(2))))
+                .thenReturn(Flux.just(CATEGORY_ONE, CATEGORY_TWO));
+
+        // Act & Assert
+        StepVerifier.create(categoryService.createAll(requested))
+                .assertNext(results -> assertThat(results)
+                        .extracting(BulkItemResult::getStatus)
+                        .containsExactly(BulkItemResult.Status.CREATED, BulkItemResult.Status.CONFLICT,
+                                         BulkItemResult.Status.CREATED))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should delete a repeated ID once and report the missing ones as not found")
+    void shouldSoftDeleteAll() {
+        // Arrange
+        when(categoryPort.softDeleteAll(List.of(1L, 3L))).thenReturn(Flux.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(categoryService.softDeleteAll(List.of(1L, 1L, 3L)))
+                .assertNext(results -> assertThat(results)
+                        .extracting(BulkItemResult::getStatus)
+                        .containsExactly(BulkItemResult.Status.DELETED, BulkItemResult.Status.NOT_FOUND,
+                                         BulkItemResult.Status.NOT_FOUND))
+                .verifyComplete();
+
+        // Verify
+        verify(categoryPort, never()).hardDeleteAll(List.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should report a category still referenced by products as a conflict")
+    void shouldHardDeleteAllWithReferencedCategory() {
+        // Arrange
+        when(categoryPort.hardDeleteAll(List.of(1L, 2L, 3L))).thenReturn(Flux.just(1L));
+        when(categoryPort.findReferencedIds(List.of(1L, 2L, 3L))).thenReturn(Flux.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(categoryService.hardDeleteAll(List.of(1L, 2L, 3L)))
+                .assertNext(results -> assertThat(results)
+                        .extracting(BulkItemResult::getStatus)
+                        .containsExactly(BulkItemResult.Status.DELETED, BulkItemResult.Status.CONFLICT,
+                                         BulkItemResult.Status.NOT_FOUND))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not reach the port for an empty batch")
+    void shouldSkipEmptyBatch() {
+        // Act & Assert
+        StepVerifier.create(categoryService.hardDeleteAll(List.of()))
+                .assertNext(results -> assertThat(results).isEmpty())
+                .verifyComplete();
+
+        // Verify
+        verifyNoInteractions(categoryPort);
+    }
+
+}
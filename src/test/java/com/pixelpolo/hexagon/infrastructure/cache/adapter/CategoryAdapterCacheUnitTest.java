@@ -0,0 +1,172 @@
+package com.pixelpolo.hexagon.infrastructure.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.domain.port.out.CategoryPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for CategoryAdapterCache.
+ * The decorated CategoryPort is mocked to count the calls reaching the persistence layer.
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryAdapterCacheUnitTest {
+
+    private static final Long CATEGORY_ID = 1L;
+    private static final String CATEGORY_NAME = "Category";
+    private static final String UPDATED_NAME = "Updated Category";
+    private static final Category CATEGORY = Category.builder().categoryId(CATEGORY_ID).name(CATEGORY_NAME).build();
+    private static final Category UPDATED = Category.builder().categoryId(CATEGORY_ID).name(UPDATED_NAME).build();
+
+    @Mock
+    private CategoryPort categoryPort;
+
+    private MeterRegistry meterRegistry;
+
+    private CategoryAdapterCache categoryAdapterCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryAdapterCache = new CategoryAdapterCache(categoryPort, meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should read a category by ID through the cache")
+    void shouldReadCategoryByIdThroughCache() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+
+        // Act
+        categoryAdapterCache.findById(CATEGORY_ID);
+        Optional<Category> result = categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Assert
+        assertThat(result).contains(CATEGORY);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "category.by-id").tag("result", "hit")
+                           .functionCounter().count()).isEqualTo(1);
+
+        // Verify
+        verify(categoryPort, times(1)).findById(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should not cache a category loaded while a write evicted it")
+    void shouldNotCacheCategoryLoadedDuringWrite() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenAnswer(invocation -> {
+            categoryAdapterCache.softDelete(CATEGORY_ID); // Concurrent write, after the store was read
+            return Optional.of(CATEGORY);
+        });
+
+        // Act
+        categoryAdapterCache.findById(CATEGORY_ID);
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Verify
+        verify(categoryPort, times(2)).findById(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should let the store decide inserts of a taken name")
+    void shouldInsertCachedNameThroughStore() {
+        // Arrange
+        when(categoryPort.insert(CATEGORY)).thenThrow(new CategoryExistException(CATEGORY_NAME));
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryAdapterCache.insert(CATEGORY))
+                .isInstanceOf(CategoryExistException.class);
+
+        // Verify
+        verify(categoryPort).insert(CATEGORY);
+    }
+
+    @Test
+    @DisplayName("Should evict the deleted categories")
+    void shouldEvictOnBulkDelete() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        when(categoryPort.softDeleteAll(List.of(CATEGORY_ID))).thenReturn(List.of(CATEGORY_ID));
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Act
+        categoryAdapterCache.softDeleteAll(List.of(CATEGORY_ID));
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Verify
+        verify(categoryPort, times(2)).findById(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should read the current category from the store and cache it")
+    void shouldReadCurrentCategoryFromStore() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        when(categoryPort.findCurrentById(CATEGORY_ID)).thenReturn(Optional.of(UPDATED));
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Act
+        Optional<Category> result = categoryAdapterCache.findCurrentById(CATEGORY_ID);
+
+        // Assert
+        assertThat(result).contains(UPDATED);
+        assertThat(categoryAdapterCache.findById(CATEGORY_ID)).contains(UPDATED);
+
+        // Verify
+        verify(categoryPort, times(1)).findById(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should replace the cached category on update")
+    void shouldReplaceOnUpdate() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        when(categoryPort.update(CATEGORY_ID, UPDATED)).thenReturn(UPDATED);
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Act
+        categoryAdapterCache.update(CATEGORY_ID, UPDATED);
+
+        // Assert
+        assertThat(categoryAdapterCache.findById(CATEGORY_ID)).map(Category::getName).contains(UPDATED_NAME);
+
+        // Verify
+        verify(categoryPort, times(1)).findById(CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Should invalidate on soft delete")
+    void shouldInvalidateOnSoftDelete() {
+        // Arrange
+        when(categoryPort.findById(CATEGORY_ID)).thenReturn(Optional.of(CATEGORY));
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Act
+        categoryAdapterCache.softDelete(CATEGORY_ID);
+        categoryAdapterCache.findById(CATEGORY_ID);
+
+        // Verify
+        verify(categoryPort).softDelete(CATEGORY_ID);
+        verify(categoryPort, times(2)).findById(CATEGORY_ID);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.pixelpolo.hexagon.infrastructure.memory.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.pixelpolo.hexagon.common.exception.BadRequestException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryExistException;
+import com.pixelpolo.hexagon.common.exception.category.CategoryVersionMismatchException;
+import com.pixelpolo.hexagon.domain.model.Category;
+
+/**
+ * Unit tests for CategoryAdapterMemory.
+ * The controller suite runs against it as well, these tests cover the sort keys and the concurrent writes.
+ */
+class CategoryAdapterMemoryUnitTest {
+
+    private CategoryAdapterMemory categoryAdapterMemory;
+
+    @BeforeEach
+    void setUp() {
+        categoryAdapterMemory = new CategoryAdapterMemory();
+        for (String name : List.of("Charlie", "Alpha", "Delta", "Bravo")) {
+            categoryAdapterMemory.insert(Category.builder().name(name).build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should page live categories on the name in both directions")
+    void shouldPageOnName() {
+        // Act
+        List<String> ascending = names(categoryAdapterMemory.findAll(PageRequest.of(0, 3, Sort.by("name"))).getContent());
+        List<String> descending = names(categoryAdapterMemory.findAll(PageRequest.of(1, 3, Sort.by("name").descending())).getContent());
+
+        // Assert
+        assertThat(ascending).containsExactly("Alpha", "Bravo", "Charlie");
+        assertThat(descending).containsExactly("Alpha");
+    }
+
+    @Test
+    @DisplayName("Should walk the categories with cursors on a sort key other than the ID")
+    void shouldScrollOnVersion() {
+        // Arrange
+        categoryAdapterMemory.update(1, Category.builder().name("Charlie 2").build());
+        Sort sort = Sort.by("version").descending();
+
+        // Act
+        Window<Category> first = categoryAdapterMemory.findAll(ScrollPosition.keyset(), sort, 2);
+        Window<Category> second = categoryAdapterMemory.findAll(
+                (KeysetScrollPosition) first.positionAt(first.size() - 1), sort, 2);
+
+        // Assert
+        assertThat(ids(first.getContent())).containsExactly(1L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(ids(second.getContent())).containsExactly(3L, 4L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor on the ID and on the name in both directions")
+    void shouldSeekOnIdAndName() {
+        // Arrange
+        Sort byName = Sort.by("name").descending();
+        Sort byId = Sort.by("categoryId").descending();
+
+        // Act
+        Window<Category> firstNames = categoryAdapterMemory.findAll(ScrollPosition.keyset(), byName, 2);
+        Window<Category> secondNames = categoryAdapterMemory.findAll(
+                (KeysetScrollPosition) firstNames.positionAt(firstNames.size() - 1), byName, 2);
+        Window<Category> firstIds = categoryAdapterMemory.findAll(ScrollPosition.keyset(), byId, 3);
+        Window<Category> secondIds = categoryAdapterMemory.findAll(
+                (KeysetScrollPosition) firstIds.positionAt(firstIds.size() - 1), byId, 3);
+
+        // Assert
+        assertThat(names(firstNames.getContent())).containsExactly("Delta", "Charlie");
+        assertThat(names(secondNames.getContent())).containsExactly("Bravo", "Alpha");
+        assertThat(secondNames.hasNext()).isFalse();
+        assertThat(ids(firstIds.getContent())).containsExactly(4L, 3L, 2L);
+        assertThat(firstIds.hasNext()).isTrue();
+        assertThat(ids(secondIds.getContent())).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should move a soft deleted category to the deleted view and free its name")
+    void shouldSoftDeleteCategory() {
+        // Act
+        categoryAdapterMemory.softDelete(2);
+        Category reused = categoryAdapterMemory.insert(Category.builder().name("Alpha").build());
+
+        // Assert
+        assertThat(categoryAdapterMemory.count()).isEqualTo(4);
+        assertThat(categoryAdapterMemory.countDeleted()).isEqualTo(1);
+        assertThat(ids(categoryAdapterMemory.findAllDeleted(PageRequest.of(0, 10)).getContent())).containsExactly(2L);
+        assertThat(categoryAdapterMemory.findByName("Alpha")).get().extracting(Category::getCategoryId).isEqualTo(reused.getCategoryId());
+    }
+
+    @Test
+    @DisplayName("Should reject a stale version and a taken name without writing")
+    void shouldRejectConflictingUpdates() {
+        // Act & Assert
+        assertThatThrownBy(() -> categoryAdapterMemory.update(1, Category.builder().name("Echo").version(3L).build()))
+                .isInstanceOf(CategoryVersionMismatchException.class);
+        assertThatThrownBy(() -> categoryAdapterMemory.update(1, Category.builder().name("Alpha").build()))
+                .isInstanceOf(CategoryExistException.class);
+
+        assertThat(categoryAdapterMemory.findById(1)).get().extracting(Category::getName, Category::getVersion)
+                .containsExactly("Charlie", 0L);
+        // The name reserved by the failed update is released
+        assertThat(categoryAdapterMemory.insert(Category.builder().name("Echo").build()).getName()).isEqualTo("Echo");
+    }
+
+    @Test
+    @DisplayName("Should create a contended name only once")
+    void shouldInsertContendedNameOnce() throws Exception {
+        // Arrange
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        categoryAdapterMemory.insert(Category.builder().name("Contended").build());
+                        return true;
+                    } catch (CategoryExistException e) {
+                        return false;
+                    }
+                }));
+            }
+        }
+
+        // Assert
+        long created = 0;
+        for (Future<Boolean> future : futures) {
+            created += future.get() ? 1 : 0;
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(categoryAdapterMemory.count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown sort key")
+    void shouldRejectUnknownSortKey() {
+        // Act & Assert
+        assertThatThrownBy(() -> categoryAdapterMemory.findAll(PageRequest.of(0, 10, Sort.by("unknown"))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static List<String> names(List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+
+    private static List<Long> ids(List<Category> categories) {
+        return categories.stream().map(Category::getCategoryId).toList();
+    }
+
+}
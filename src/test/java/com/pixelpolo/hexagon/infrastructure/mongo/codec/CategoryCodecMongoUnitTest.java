@@ -0,0 +1,98 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+import com.pixelpolo.hexagon.infrastructure.mongo.mapper.CategoryMapperMongo;
+
+/**
+ * Unit tests for CategoryCodecMongo.
+ * Documents are written by MappingMongoConverter as CategoryEntityMongo is stored,
+ * the codec must read the same Category as the converter and CategoryMapperMongo.
+ */
+class CategoryCodecMongoUnitTest {
+
+    private final CategoryCodecMongo categoryCodecMongo = new CategoryCodecMongo();
+    private final CategoryMapperMongo categoryMapperMongo = Mappers.getMapper(CategoryMapperMongo.class);
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("Should decode a stored category like the converter and the mapper")
+    void shouldDecodeLikeConverter() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        RawBsonDocument stored = store(CategoryEntityMongo.builder()
+                                               .categoryId(7L).name("Mobilité").version(3L)
+                                               .deletionDate(now).updatedAt(now.minusDays(1)).build());
+
+        // Act
+        Category decoded = stored.decode(categoryCodecMongo);
+        Category expected = categoryMapperMongo.toDomain(converter.read(CategoryEntityMongo.class, stored.decode(new DocumentCodec())));
+
+        // Assert
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(decoded.getCategoryId()).isEqualTo(7L);
+        assertThat(decoded.getDeletionDate()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("Should leave missing and null fields unset and skip unknown ones")
+    void shouldHandleMissingFields() {
+        // Arrange
+        Document document = new Document("_id", 1).append("name", "Logement").append("deletionDate", null)
+                .append("_class", "legacy").append("tags", new Document("a", 1));
+
+        // Act
+        Category decoded = new RawBsonDocument(document, new DocumentCodec()).decode(categoryCodecMongo);
+
+        // Assert
+        assertThat(decoded.getCategoryId()).isEqualTo(1L);
+        assertThat(decoded.getName()).isEqualTo("Logement");
+        assertThat(decoded.getDeletionDate()).isNull();
+        assertThat(decoded.getVersion()).isNull();
+        assertThat(decoded.getUpdatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read back what it encodes")
+    void shouldRoundTrip() {
+        // Arrange
+        Category category = Category.builder().categoryId(2L).name("Services").version(0L)
+                .updatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)).build();
+
+        // Act
+        Category decoded = new RawBsonDocument(category, categoryCodecMongo).decode(categoryCodecMongo);
+
+        // Assert
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(category);
+    }
+
+    private RawBsonDocument store(CategoryEntityMongo entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.pixelpolo.hexagon.infrastructure.mongo.sequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.pixelpolo.hexagon.infrastructure.mongo.entity.CategoryEntityMongo;
+
+/**
+ * Unit tests for SequenceGeneratorMongo.
+ * MongoTemplate is mocked, the "sequence" collection is simulated with an AtomicLong.
+ */
+@ExtendWith(MockitoExtension.class)
+class SequenceGeneratorMongoUnitTest {
+
+    private static final long BLOCK_SIZE = 10;
+    private static final String COLLECTION = "category";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SequenceGeneratorMongo sequenceGeneratorMongo;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(CategoryEntityMongo.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                                         eq(Document.class), eq(SequenceGeneratorMongo.SEQUENCE_COLLECTION)))
+                .thenAnswer(invocation -> new Document(SequenceGeneratorMongo.SEQUENCE_FIELD, sequence.addAndGet(BLOCK_SIZE)));
+        sequenceGeneratorMongo = new SequenceGeneratorMongo(mongoTemplate, BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should hand out IDs from a reserved block")
+    void shouldHandOutIdsFromBlock() {
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < BLOCK_SIZE + 1; i++) {
+            ids.add(sequenceGeneratorMongo.nextId(CategoryEntityMongo.class));
+        }
+
+        // Assert
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+
+        // Verify
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                                                      eq(Document.class), eq(SequenceGeneratorMongo.SEQUENCE_COLLECTION));
+    }
+
+    @Test
+    @DisplayName("Should start after the highest existing ID")
+    void shouldStartAfterHighestExistingId() {
+        // Arrange
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq(COLLECTION)))
+                .thenAnswer(invocation -> {
+                    sequence.accumulateAndGet(42, Math::max);
+                    return new Document("_id", 42L);
+                });
+
+        // Act
+        long id = sequenceGeneratorMongo.nextId(CategoryEntityMongo.class);
+
+        // Assert
+        assertThat(id).isEqualTo(43L);
+    }
+
+    @Test
+    @DisplayName("Should hand out unique IDs under concurrency")
+    void shouldHandOutUniqueIdsUnderConcurrency() throws Exception {
+        // Arrange
+        int threads = 16;
+        int idsPerThread = 1_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(sequenceGeneratorMongo.nextId(CategoryEntityMongo.class));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Assert
+        assertThat(ids).hasSize(threads * idsPerThread);
+        assertThat(sequence.get()).isEqualTo(threads * idsPerThread);
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ * Each data source hands out a connection whose statement identifies it, the scheduled health checks
+ * are run by hand.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceUnitTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaOne;
+
+    @Mock
+    private DataSource replicaTwo;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Statement primaryStatement;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(primaryConnection.createStatement()).thenReturn(primaryStatement);
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, List.of(replicaOne, replicaTwo), Duration.ofSeconds(5), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should send the read-only connections to the replicas in turn and the others to the primary")
+    void shouldRouteOnReadOnly() throws SQLException {
+        // Arrange
+        Statement replicaOneStatement = statementOf(replicaOne);
+        Statement replicaTwoStatement = statementOf(replicaTwo);
+
+        // Act & Assert
+        assertThat(statement(true)).isSameAs(replicaOneStatement);
+        assertThat(statement(true)).isSameAs(replicaTwoStatement);
+        assertThat(statement(true)).isSameAs(replicaOneStatement);
+        assertThat(statement(false)).isSameAs(primaryStatement);
+    }
+
+    @Test
+    @DisplayName("Should eject a replica refusing connections, then fall back to the primary")
+    void shouldEjectUnreachableReplica() throws SQLException {
+        // Arrange
+        when(replicaOne.getConnection()).thenThrow(new SQLTransientConnectionException("Connection refused"));
+        Statement replicaTwoStatement = statementOf(replicaTwo);
+
+        // Act & Assert
+        assertThat(statement(true)).isSameAs(replicaTwoStatement);
+        assertThat(routingDataSource.healthyReplicas()).isEqualTo(1);
+        assertThat(statement(true)).isSameAs(replicaTwoStatement);
+
+        when(replicaTwo.getConnection()).thenThrow(new SQLTransientConnectionException("Connection refused"));
+        assertThat(statement(true)).isSameAs(primaryStatement);
+        assertThat(routingDataSource.healthyReplicas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should eject a lagging replica and admit it again once it has caught up")
+    void shouldEjectLaggingReplica() throws SQLException {
+        // Arrange
+        ResultSet replicaOneLag = lagOf(replicaOne);
+        ResultSet replicaTwoLag = lagOf(replicaTwo);
+        when(replicaOneLag.getDouble(1)).thenReturn(10.0, 0.0);
+        when(replicaTwoLag.getDouble(1)).thenReturn(0.0, 0.0);
+
+        // Act
+        routingDataSource.checkReplicas();
+        int healthyWhileLagging = routingDataSource.healthyReplicas();
+        routingDataSource.checkReplicas();
+
+        // Assert
+        assertThat(healthyWhileLagging).isEqualTo(1);
+        assertThat(routingDataSource.healthyReplicas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should send the reads of a pinned thread to the primary until the pin is closed")
+    void shouldReadPinnedThreadFromPrimary() throws SQLException {
+        // Arrange
+        Statement replicaOneStatement = statementOf(replicaOne);
+
+        // Act & Assert
+        try (ReplicaRoutingDataSource.Pin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            try (ReplicaRoutingDataSource.Pin nested = ReplicaRoutingDataSource.pinToPrimary()) {
+                assertThat(statement(true)).isSameAs(primaryStatement);
+            }
+            assertThat(statement(true)).isSameAs(primaryStatement);
+        }
+        assertThat(statement(true)).isSameAs(replicaOneStatement);
+    }
+
+    @Test
+    @DisplayName("Should close the primary pool along with the replica pools")
+    void shouldClosePrimaryAndReplicas() throws Exception {
+        // Arrange
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        DataSource replicaPool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        ReplicaRoutingDataSource pools = new ReplicaRoutingDataSource(
+                pool, List.of(replicaPool), Duration.ofSeconds(5), Duration.ofHours(1));
+
+        // Act
+        pools.close();
+
+        // Verify
+        verify((AutoCloseable) pool).close();
+        verify((AutoCloseable) replicaPool).close();
+    }
+
+    // The target connection is only fetched on the first statement, after the read-only flag is set
+    private Statement statement(boolean readOnly) throws SQLException {
+        Connection connection = routingDataSource.getConnection();
+        connection.setReadOnly(readOnly);
+        return connection.createStatement();
+    }
+
+    private static Statement statementOf(DataSource dataSource) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        return statement;
+    }
+
+    private static ResultSet lagOf(DataSource dataSource) throws SQLException {
+        Statement statement = statementOf(dataSource);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        return resultSet;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.pixelpolo.hexagon.infrastructure.postgres.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.pixelpolo.hexagon.domain.model.Category;
+import com.pixelpolo.hexagon.infrastructure.postgres.adapter.CategoryAdapterJpa;
+
+/**
+ * Integration tests of the read/write splitting against two PostgreSQL instances.
+ * The second one stands in for a replica: it is migrated like the primary but not replicated,
+ * so a row changed on one side only tells which instance served the query.
+ */
+@Testcontainers
+@SpringBootTest
+@ActiveProfiles({"test", "postgres"})
+class ReplicaRoutingIntegrationTest {
+
+    // --- TEST CONTAINERS SETUP ---
+    // Docker must be running.
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:latest");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer PSQL_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    // Same default credentials as the primary, the replica pool reuses them
+    @Container
+    private static final PostgreSQLContainer REPLICA_CONTAINER = new PostgreSQLContainer("postgres:latest");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("postgres.replicas.urls", REPLICA_CONTAINER::getJdbcUrl);
+    }
+
+    @BeforeAll
+    static void migrateReplica() throws SQLException {
+        Flyway.configure()
+                .dataSource(REPLICA_CONTAINER.getJdbcUrl(), REPLICA_CONTAINER.getUsername(), REPLICA_CONTAINER.getPassword())
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(
+                REPLICA_CONTAINER.getJdbcUrl(), REPLICA_CONTAINER.getUsername(), REPLICA_CONTAINER.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE \"category\" SET \"name\" = 'Replica copy' WHERE \"category_id\" = 1");
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryAdapterJpa categoryAdapterJpa;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // --- TESTS ---
+
+    @Test
+    @DisplayName("Should wrap the primary DataSource when replicas are set")
+    void shouldWrapDataSource() {
+        assertThat(dataSource).isInstanceOf(ReplicaRoutingDataSource.class);
+        assertThat(((ReplicaRoutingDataSource) dataSource).healthyReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the reads of the adapter from the replica")
+    void shouldReadFromReplica() {
+        // Act
+        Category category = categoryAdapterJpa.findById(1).orElseThrow();
+
+        // Assert
+        assertThat(category.getName()).isEqualTo("Replica copy");
+        assertThat(categoryAdapterJpa.findByName("Replica copy")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should write to the primary only")
+    void shouldWriteToPrimary() {
+        // Act
+        Category created = categoryAdapterJpa.insert(Category.builder().name("Primary only").build());
+
+        // Assert
+        // Outside a read-only transaction, JdbcTemplate queries the primary
+        assertThat(jdbcTemplate.queryForObject("SELECT \"name\" FROM \"category\" WHERE \"category_id\" = ?",
+                                               String.class, created.getCategoryId())).isEqualTo("Primary only");
+        assertThat(jdbcTemplate.queryForObject("SELECT \"name\" FROM \"category\" WHERE \"category_id\" = 1",
+                                               String.class)).isNotEqualTo("Replica copy");
+        // Not replicated to the stand-in
+        assertThat(categoryAdapterJpa.findByName("Primary only")).isEmpty();
+    }
+
+}